@@ -1,9 +1,12 @@
 package com.bloodforged;
 
+import com.bloodforged.render.CompositeToolItemModel;
 import com.bloodforged.screen.AnvilScreen;
 import com.bloodforged.screen.ModScreenHandlers;
 import net.fabricmc.api.ClientModInitializer;
 import net.minecraft.client.gui.screen.ingame.HandledScreens;
+import net.minecraft.client.render.item.model.ItemModelTypes;
+import net.minecraft.util.Identifier;
 
 /**
  * Client-side initialization for BloodForged.
@@ -13,7 +16,7 @@ import net.minecraft.client.gui.screen.ingame.HandledScreens;
  *
  * RESPONSIBILITIES:
  * - Register screen factories (link ScreenHandler to Screen)
- * - Register model providers (future)
+ * - Register custom item model types
  * - Register custom renderers (future)
  * - Handle client-specific keybinds (future)
  */
@@ -37,5 +40,15 @@ public class BloodForgedClient implements ClientModInitializer {
          * 3. Client creates AnvilScreen to display
          */
         HandledScreens.register(ModScreenHandlers.ANVIL_SCREEN_HANDLER, AnvilScreen::new);
+
+        // === REGISTER ITEM MODEL TYPES ===
+
+        /**
+         * "bloodforged:modular_tool" item model type.
+         *
+         * Lets assets/bloodforged/items/modular_tool.json use the composite
+         * model: three part layers tinted by material, see CompositeToolItemModel.
+         */
+        ItemModelTypes.ID_MAPPER.put(Identifier.of(BloodForged.MOD_ID, "modular_tool"), CompositeToolItemModel.Unbaked.CODEC);
     }
 }
\ No newline at end of file
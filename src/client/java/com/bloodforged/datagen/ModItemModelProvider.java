@@ -2,10 +2,12 @@ package com.bloodforged.datagen;
 
 import com.bloodforged.block.ModBlocks;
 import com.bloodforged.item.ModItems;
+import com.bloodforged.render.CompositeToolItemModel;
 import net.fabricmc.fabric.api.datagen.v1.FabricDataOutput;
 import net.fabricmc.fabric.api.client.datagen.v1.provider.FabricModelProvider;
 import net.minecraft.client.data.BlockStateModelGenerator;
 import net.minecraft.client.data.ItemModelGenerator;
+import net.minecraft.client.data.ModelIds;
 import net.minecraft.client.data.Models;
 
 public class ModItemModelProvider extends FabricModelProvider {
@@ -20,6 +22,10 @@ public class ModItemModelProvider extends FabricModelProvider {
         blockStateModelGenerator.registerSimpleCubeAll(ModBlocks.FORGE);
         blockStateModelGenerator.registerSimpleCubeAll(ModBlocks.OPEN_FURNACE);
         blockStateModelGenerator.registerSimpleCubeAll(ModBlocks.SMITHING_ANVIL);
+        blockStateModelGenerator.registerSimpleCubeAll(ModBlocks.ASSEMBLY_TABLE);
+        blockStateModelGenerator.registerSimpleCubeAll(ModBlocks.CRUSHER);
+        blockStateModelGenerator.registerSimpleCubeAll(ModBlocks.WASHER);
+        blockStateModelGenerator.registerSimpleCubeAll(ModBlocks.TRIP_HAMMER);
     }
 
     @Override
@@ -45,5 +51,11 @@ public class ModItemModelProvider extends FabricModelProvider {
         itemModelGenerator.register(ModItems.TOOL_BLADE, Models.GENERATED);
         itemModelGenerator.register(ModItems.TOOL_HANDLE, Models.GENERATED);
         itemModelGenerator.register(ModItems.TOOL_GUARD, Models.GENERATED);
+
+        // Tools - composite of the part models, tinted per material
+        itemModelGenerator.output.accept(ModItems.MODULAR_TOOL, new CompositeToolItemModel.Unbaked(
+                ModelIds.getItemModelId(ModItems.TOOL_BLADE),
+                ModelIds.getItemModelId(ModItems.TOOL_HANDLE),
+                ModelIds.getItemModelId(ModItems.TOOL_GUARD)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,228 @@
+package com.bloodforged.render;
+
+import com.bloodforged.component.ModDataComponents;
+import com.bloodforged.material.MaterialRegistry;
+import com.bloodforged.material.MaterialSnapshot;
+import com.bloodforged.tool.AssembledToolStats;
+import com.bloodforged.tool.ToolPart;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.MapCodec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.client.item.ItemModelManager;
+import net.minecraft.client.render.RenderLayers;
+import net.minecraft.client.render.item.ItemRenderState;
+import net.minecraft.client.render.item.model.ItemModel;
+import net.minecraft.client.render.model.BakedQuad;
+import net.minecraft.client.render.model.BakedSimpleModel;
+import net.minecraft.client.render.model.Baker;
+import net.minecraft.client.render.model.ModelRotation;
+import net.minecraft.client.render.model.ModelSettings;
+import net.minecraft.client.render.model.ModelTextures;
+import net.minecraft.client.render.model.ResolvableModel;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.item.ItemDisplayContext;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.ColorHelper;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Item model for assembled modular tools: blade + handle + guard layers,
+ * each tinted with its material's color.
+ *
+ * CONCEPT:
+ * Baking one model per material combination at resource load is M^3 models.
+ * Instead, the three part models are baked ONCE and merged into a single quad
+ * list, with each part's quads on its own tint index:
+ *   0 = handle, 1 = guard, 2 = blade (drawn in that order, blade on top)
+ *
+ * The only thing that differs between combinations is the three colors.
+ * Those are resolved lazily, the first time a combination is rendered, and kept
+ * in an LRU cache keyed by the packed (blade, handle, guard) material handles.
+ * Rendering a known tool is one cache hit plus three int copies.
+ *
+ * CACHE:
+ * - Bounded by maxEntries (least recently rendered combination is evicted first)
+ * - Owned by the baked model, so every resource reload starts with an empty cache
+ * - Also cleared when the client material snapshot changes (handles are per snapshot)
+ * - Render thread only, no locking
+ *
+ * JSON (assets/bloodforged/items/modular_tool.json, generated by datagen):
+ * { "model": { "type": "bloodforged:modular_tool",
+ *              "blade": "bloodforged:item/tool_blade",
+ *              "handle": "bloodforged:item/tool_handle",
+ *              "guard": "bloodforged:item/tool_guard" } }
+ */
+public class CompositeToolItemModel implements ItemModel {
+
+    // Tint indices, in draw order
+    private static final int HANDLE_TINT = 0;
+    private static final int GUARD_TINT = 1;
+    private static final int BLADE_TINT = 2;
+    private static final int TINT_COUNT = 3;
+
+    // Material handles are packed into one long key, 21 bits each
+    private static final int HANDLE_BITS = 21;
+    private static final long HANDLE_MASK = (1L << HANDLE_BITS) - 1;
+
+    private static final int WHITE = 0xFFFFFFFF;
+
+    private final List<BakedQuad> quads;
+    private final ModelSettings settings;
+    private final int maxEntries;
+
+    // Packed material handles -> {handle, guard, blade} ARGB tints, access ordered
+    private final Long2ObjectLinkedOpenHashMap<int[]> tintCache = new Long2ObjectLinkedOpenHashMap<>();
+
+    // Material ID string (as stored in ToolPart) -> handle, for the current snapshot
+    private final Object2IntOpenHashMap<String> handleCache = new Object2IntOpenHashMap<>();
+    private int snapshotVersion = -1;
+
+    public CompositeToolItemModel(List<BakedQuad> quads, ModelSettings settings, int maxEntries) {
+        this.quads = quads;
+        this.settings = settings;
+        this.maxEntries = maxEntries;
+        this.handleCache.defaultReturnValue(Integer.MIN_VALUE);
+    }
+
+    @Override
+    public void update(ItemRenderState state, ItemStack stack, ItemModelManager resolver, ItemDisplayContext displayContext,
+                       @Nullable ClientWorld world, @Nullable LivingEntity user, int seed) {
+        ItemRenderState.LayerRenderState layer = state.newLayer();
+        if (stack.hasGlint()) {
+            layer.setGlint(ItemRenderState.Glint.STANDARD);
+        }
+
+        int[] tints = layer.initTints(TINT_COUNT);
+        AssembledToolStats stats = stack.get(ModDataComponents.TOOL_STATS);
+        if (stats != null) {
+            System.arraycopy(tintsFor(stats), 0, tints, 0, TINT_COUNT);
+        } else {
+            tints[HANDLE_TINT] = WHITE;
+            tints[GUARD_TINT] = WHITE;
+            tints[BLADE_TINT] = WHITE;
+        }
+
+        layer.setRenderLayer(RenderLayers.getItemLayer(stack));
+        settings.addSettings(layer, displayContext);
+        layer.getQuads().addAll(quads);
+    }
+
+    // === CACHE ===
+
+    private int[] tintsFor(AssembledToolStats stats) {
+        MaterialSnapshot snapshot = MaterialRegistry.INSTANCE.snapshot(true);
+        if (snapshot.getVersion() != snapshotVersion) {
+            // New snapshot, new handles - everything cached is stale
+            snapshotVersion = snapshot.getVersion();
+            handleCache.clear();
+            tintCache.clear();
+        }
+
+        int blade = handleOf(snapshot, stats.blade());
+        int handle = handleOf(snapshot, stats.handle());
+        int guard = handleOf(snapshot, stats.guard());
+        long key = pack(blade, handle, guard);
+
+        int[] tints = tintCache.getAndMoveToLast(key);
+        if (tints == null) {
+            tints = new int[TINT_COUNT];
+            tints[HANDLE_TINT] = colorOf(snapshot, handle);
+            tints[GUARD_TINT] = colorOf(snapshot, guard);
+            tints[BLADE_TINT] = colorOf(snapshot, blade);
+
+            tintCache.putAndMoveToLast(key, tints);
+            if (tintCache.size() > maxEntries) {
+                tintCache.removeFirst();
+            }
+        }
+        return tints;
+    }
+
+    private int handleOf(MaterialSnapshot snapshot, ToolPart part) {
+        int handle = handleCache.getInt(part.material());
+        if (handle == Integer.MIN_VALUE) {
+            Identifier id = Identifier.tryParse(part.material());
+            handle = id != null ? snapshot.materialHandle(id) : MaterialSnapshot.NO_HANDLE;
+            handleCache.put(part.material(), handle);
+        }
+        return handle;
+    }
+
+    private static int colorOf(MaterialSnapshot snapshot, int handle) {
+        return handle == MaterialSnapshot.NO_HANDLE ? WHITE : ColorHelper.fullAlpha(snapshot.color(handle));
+    }
+
+    // NO_HANDLE (-1) masks to all ones, which no real handle reaches
+    private static long pack(int blade, int handle, int guard) {
+        return (blade & HANDLE_MASK) << (2 * HANDLE_BITS)
+                | (handle & HANDLE_MASK) << HANDLE_BITS
+                | (guard & HANDLE_MASK);
+    }
+
+    // === UNBAKED ===
+
+    /**
+     * Points at the three part models; bakes them into one composite quad list.
+     */
+    public record Unbaked(Identifier blade, Identifier handle, Identifier guard, int maxEntries) implements ItemModel.Unbaked {
+
+        public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+        public static final MapCodec<Unbaked> CODEC = RecordCodecBuilder.mapCodec(instance -> instance.group(
+                Identifier.CODEC.fieldOf("blade").forGetter(Unbaked::blade),
+                Identifier.CODEC.fieldOf("handle").forGetter(Unbaked::handle),
+                Identifier.CODEC.fieldOf("guard").forGetter(Unbaked::guard),
+                Codec.intRange(1, 1 << 16).optionalFieldOf("cache_size", DEFAULT_MAX_ENTRIES).forGetter(Unbaked::maxEntries)
+        ).apply(instance, Unbaked::new));
+
+        public Unbaked(Identifier blade, Identifier handle, Identifier guard) {
+            this(blade, handle, guard, DEFAULT_MAX_ENTRIES);
+        }
+
+        @Override
+        public MapCodec<Unbaked> getCodec() {
+            return CODEC;
+        }
+
+        @Override
+        public void resolve(ResolvableModel.Resolver resolver) {
+            resolver.markDependency(blade);
+            resolver.markDependency(handle);
+            resolver.markDependency(guard);
+        }
+
+        @Override
+        public ItemModel bake(ItemModel.BakeContext context) {
+            Baker baker = context.blockModelBaker();
+
+            List<BakedQuad> quads = new ArrayList<>();
+            addPart(baker, handle, HANDLE_TINT, quads);
+            addPart(baker, guard, GUARD_TINT, quads);
+            addPart(baker, blade, BLADE_TINT, quads);
+
+            // Transforms and particle come from the blade model
+            BakedSimpleModel bladeModel = baker.getModel(blade);
+            ModelSettings settings = ModelSettings.resolveSettings(baker, bladeModel, bladeModel.getTextures());
+
+            return new CompositeToolItemModel(List.copyOf(quads), settings, maxEntries);
+        }
+
+        /**
+         * Bake one part model and move all its quads onto the given tint index.
+         */
+        private static void addPart(Baker baker, Identifier modelId, int tintIndex, List<BakedQuad> out) {
+            BakedSimpleModel model = baker.getModel(modelId);
+            ModelTextures textures = model.getTextures();
+            for (BakedQuad quad : model.bakeGeometry(textures, baker, ModelRotation.X0_Y0).getAllQuads()) {
+                out.add(new BakedQuad(quad.vertexData(), tintIndex, quad.face(), quad.sprite(), quad.shade(), quad.lightEmission()));
+            }
+        }
+    }
+}
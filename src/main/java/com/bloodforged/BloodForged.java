@@ -1,12 +1,27 @@
 package com.bloodforged;
 
 import com.bloodforged.block.ModBlocks;
+import com.bloodforged.block.entity.DensityGovernor;
 import com.bloodforged.block.entity.ModBlockEntities;
+import com.bloodforged.block.entity.OreLines;
+import com.bloodforged.block.entity.SmithySpatialIndex;
+import com.bloodforged.command.ModCommands;
 import com.bloodforged.component.ModDataComponents;
 import com.bloodforged.item.ModItems;
 import com.bloodforged.material.ExampleMaterials;
+import com.bloodforged.material.MaterialRegistry;
+import com.bloodforged.material.MaterialTags;
+import com.bloodforged.recipe.ModRecipes;
 import com.bloodforged.screen.ModScreenHandlers;
+import com.bloodforged.tool.ToolCombinationTable;
+import com.bloodforged.tool.ToolMiningTable;
+import com.bloodforged.tool.ToolWear;
 import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,6 +36,9 @@ import org.slf4j.LoggerFactory;
  * 4. Blocks - Use items
  * 5. Block Entities - Extend blocks with logic
  * 6. Screen Handlers - Use block entities
+ * 6b. Recipes - Use items
+ * 6c. Commands - Use materials and tools
+ * 7. Freeze - Material registry becomes read-only
  */
 public class BloodForged implements ModInitializer {
     public static final String MOD_ID = "bloodforged";
@@ -36,6 +54,7 @@ public class BloodForged implements ModInitializer {
 
         LOGGER.info("[Phase 1] Registering materials...");
         ExampleMaterials.register();
+        MaterialTags.register();
 
         // Phase 2: Items & Blocks
         LOGGER.info("[Phase 2] Registering items...");
@@ -51,6 +70,54 @@ public class BloodForged implements ModInitializer {
         LOGGER.info("[Phase 3] Registering screen handlers...");
         ModScreenHandlers.registerScreenHandlers();
 
+        LOGGER.info("[Phase 3] Registering recipes...");
+        ModRecipes.registerRecipes();
+
+        LOGGER.info("[Phase 3] Registering commands...");
+        ModCommands.registerCommands();
+
+        // Phase 4: Freeze
+        LOGGER.info("[Phase 4] Freezing material registry...");
+        MaterialRegistry.INSTANCE.freeze();
+        ToolCombinationTable.rebuildAsync();
+
+        // Rebuild the server-side material snapshot whenever datapacks reload
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> {
+            MaterialRegistry.INSTANCE.recompile(false);
+            ToolCombinationTable.rebuildAsync();
+            ModRecipes.rebuildIndexes(server);
+        });
+
+        // Index forging/smithing recipes by input item once recipes are loaded
+        ServerLifecycleEvents.SERVER_STARTED.register(ModRecipes::rebuildIndexes);
+
+        // Rebuild the tag-driven item index for whichever side just loaded tags
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+            MaterialRegistry.INSTANCE.onTagsLoaded(client);
+            ToolMiningTable.rebuild();
+            if (!client) {
+                ToolCombinationTable.rebuildAsync();
+            }
+        });
+
+        // Ore processing lines: one callback per world advances every line
+        ServerTickEvents.END_WORLD_TICK.register(OreLines::tick);
+        ServerWorldEvents.UNLOAD.register((server, world) -> OreLines.unload(world));
+
+        // Forges, anvils and furnaces keep their per-world spatial index up to date themselves
+        ServerWorldEvents.UNLOAD.register((server, world) -> SmithySpatialIndex.unload(world));
+
+        // Same for their density counts; the governor throttles through the blocks' tickers
+        ServerWorldEvents.UNLOAD.register((server, world) -> DensityGovernor.unload(world));
+
+        // Write batched tool wear before players or their data go away
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) ->
+                ToolWear.onDisconnect(handler.getPlayer()));
+        ServerLifecycleEvents.BEFORE_SAVE.register((server, flush, force) ->
+                server.getPlayerManager().getPlayerList().forEach(ToolWear::flushPlayer));
+        ServerLifecycleEvents.SERVER_STOPPING.register(server ->
+                server.getPlayerManager().getPlayerList().forEach(ToolWear::flushPlayer));
+
         LOGGER.info("=== BloodForged initialization complete! ===");
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.bloodforged.block;
 
 import com.bloodforged.block.entity.AnvilBlockEntity;
+import com.bloodforged.block.entity.DensityGovernor;
 import com.bloodforged.block.entity.ModBlockEntities;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockEntityProvider;
@@ -9,7 +10,9 @@ import net.minecraft.block.ShapeContext;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.block.entity.BlockEntityTicker;
 import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
 import net.minecraft.screen.NamedScreenHandlerFactory;
 import net.minecraft.util.ActionResult;
 import net.minecraft.util.ItemScatterer;
@@ -77,12 +80,23 @@ public class AnvilBlock extends Block implements BlockEntityProvider {
 
         // Check if the type matches our anvil block entity
         if (type == ModBlockEntities.ANVIL_BLOCK_ENTITY) {
-            return (BlockEntityTicker<T>) (BlockEntityTicker<AnvilBlockEntity>) AnvilBlockEntity::tick;
+            return (BlockEntityTicker<T>) DensityGovernor.<AnvilBlockEntity>ticker(AnvilBlockEntity::tick);
         }
 
         return null;
     }
 
+    // === PLACEMENT ===
+
+    /**
+     * Record who placed it, for the DensityGovernor's per-player count.
+     */
+    @Override
+    public void onPlaced(World world, BlockPos pos, BlockState state, @Nullable LivingEntity placer, ItemStack itemStack) {
+        super.onPlaced(world, pos, state, placer, itemStack);
+        DensityGovernor.onPlaced(world, pos, placer);
+    }
+
     // === INTERACTIONS ===
 
     /**
@@ -107,6 +121,21 @@ public class AnvilBlock extends Block implements BlockEntityProvider {
         return ActionResult.SUCCESS;
     }
 
+    // === COMPARATOR ===
+
+    @Override
+    protected boolean hasComparatorOutput(BlockState state) {
+        return true;
+    }
+
+    /**
+     * Cached level from the block entity - see AnvilBlockEntity for the mapping.
+     */
+    @Override
+    protected int getComparatorOutput(BlockState state, World world, BlockPos pos) {
+        return world.getBlockEntity(pos) instanceof AnvilBlockEntity anvilEntity ? anvilEntity.getComparatorLevel() : 0;
+    }
+
     /**
      * Handle block being broken.
      * Drop all items in inventory.
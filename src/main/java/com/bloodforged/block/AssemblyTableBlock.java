@@ -0,0 +1,137 @@
+package com.bloodforged.block;
+
+import com.bloodforged.block.entity.AssemblyTableBlockEntity;
+import com.bloodforged.block.entity.DensityGovernor;
+import com.bloodforged.block.entity.ModBlockEntities;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockEntityProvider;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.BlockEntityTicker;
+import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.text.Text;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Hand;
+import net.minecraft.util.ItemScatterer;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * AssemblyTableBlock - Puts blade + handle + guard together into a tool.
+ *
+ * SIMPLE INTERACTION (like the forge):
+ * - Right-click with a tool part → Insert into its slot
+ * - Right-click empty hand → Take the finished tool, or the last part back
+ *
+ * The table assembles automatically once all three parts are in.
+ * The stat math runs off the server thread (see AssemblyTableBlockEntity);
+ * until it's done, the table reports "Assembling..." and holds on to the parts.
+ */
+public class AssemblyTableBlock extends Block implements BlockEntityProvider {
+
+    public AssemblyTableBlock(Settings settings) {
+        super(settings);
+    }
+
+    // === BLOCK ENTITY PROVIDER ===
+
+    @Nullable
+    @Override
+    public BlockEntity createBlockEntity(BlockPos pos, BlockState state) {
+        return new AssemblyTableBlockEntity(pos, state);
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(World world, BlockState state, BlockEntityType<T> type) {
+        if (world.isClient) {
+            return null;
+        }
+
+        if (type == ModBlockEntities.ASSEMBLY_TABLE_BLOCK_ENTITY) {
+            return (BlockEntityTicker<T>) DensityGovernor.<AssemblyTableBlockEntity>ticker(AssemblyTableBlockEntity::tick);
+        }
+
+        return null;
+    }
+
+    // === PLACEMENT ===
+
+    /**
+     * Record who placed it, for the DensityGovernor's per-player count.
+     */
+    @Override
+    public void onPlaced(World world, BlockPos pos, BlockState state, @Nullable LivingEntity placer, ItemStack itemStack) {
+        super.onPlaced(world, pos, state, placer, itemStack);
+        DensityGovernor.onPlaced(world, pos, placer);
+    }
+
+    // === INTERACTIONS ===
+
+    /**
+     * Handle right-click on the table.
+     */
+    @Override
+    protected ActionResult onUse(BlockState state, World world, BlockPos pos, PlayerEntity player, BlockHitResult hit) {
+        if (world.isClient) {
+            return ActionResult.SUCCESS;
+        }
+
+        BlockEntity blockEntity = world.getBlockEntity(pos);
+        if (!(blockEntity instanceof AssemblyTableBlockEntity table)) {
+            return ActionResult.PASS;
+        }
+
+        // Output is "pending" until the workers are done
+        if (table.isPending()) {
+            player.sendMessage(Text.translatable("message.bloodforged.assembly_table.pending"), true);
+            return ActionResult.SUCCESS;
+        }
+
+        ItemStack handStack = player.getStackInHand(Hand.MAIN_HAND);
+
+        // Holding a part: put it in its slot
+        int slot = AssemblyTableBlockEntity.slotFor(handStack);
+        if (slot >= 0) {
+            if (!table.getStack(slot).isEmpty()) {
+                return ActionResult.PASS;
+            }
+            table.setStack(slot, handStack.split(1));
+            return ActionResult.SUCCESS;
+        }
+
+        // Empty hand: take the tool, otherwise the last part put in
+        if (handStack.isEmpty()) {
+            for (int i = AssemblyTableBlockEntity.OUTPUT_SLOT; i >= AssemblyTableBlockEntity.BLADE_SLOT; i--) {
+                if (!table.getStack(i).isEmpty()) {
+                    player.setStackInHand(Hand.MAIN_HAND, table.removeStack(i));
+                    table.markDirty();
+                    return ActionResult.SUCCESS;
+                }
+            }
+        }
+
+        return ActionResult.PASS;
+    }
+
+    /**
+     * Drop items when broken.
+     */
+    @Override
+    public BlockState onBreak(World world, BlockPos pos, BlockState state, PlayerEntity player) {
+        BlockEntity blockEntity = world.getBlockEntity(pos);
+
+        if (blockEntity instanceof AssemblyTableBlockEntity table) {
+            ItemScatterer.spawn(world, pos, table);
+            world.updateComparators(pos, this);
+        }
+
+        return super.onBreak(world, pos, state, player);
+    }
+}
@@ -1,6 +1,7 @@
 package com.bloodforged.block;
 
 import com.bloodforged.block.entity.AnvilBlockEntity;
+import com.bloodforged.block.entity.DensityGovernor;
 import com.bloodforged.block.entity.ForgeBlockEntity;
 import com.bloodforged.block.entity.ModBlockEntities;
 import net.minecraft.block.Block;
@@ -9,6 +10,7 @@ import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.block.entity.BlockEntityTicker;
 import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.ActionResult;
@@ -23,8 +25,9 @@ import org.jetbrains.annotations.Nullable;
  * Updated ForgeBlock - Now with BlockEntity support!
  *
  * SIMPLE INTERACTION (Phase 3):
- * - Right-click with item → Insert into forge
- * - Right-click empty hand → Remove from forge
+ * - Right-click with metal → Insert the whole stack (or top up the same metal)
+ * - Right-click empty hand → Take one hot item
+ * - Sneak + right-click empty hand → Take the whole stack
  * - Forge auto-lights when item inserted
  *
  * FUTURE (Phase 5):
@@ -55,12 +58,23 @@ public class ForgeBlock extends Block implements BlockEntityProvider {
         }
 
         if (type == ModBlockEntities.FORGE_BLOCK_ENTITY) {
-            return (BlockEntityTicker<T>) (BlockEntityTicker<ForgeBlockEntity>) ForgeBlockEntity::tick;
+            return (BlockEntityTicker<T>) DensityGovernor.<ForgeBlockEntity>ticker(ForgeBlockEntity::tick);
         }
 
         return null;
     }
 
+    // === PLACEMENT ===
+
+    /**
+     * Record who placed it, for the DensityGovernor's per-player count.
+     */
+    @Override
+    public void onPlaced(World world, BlockPos pos, BlockState state, @Nullable LivingEntity placer, ItemStack itemStack) {
+        super.onPlaced(world, pos, state, placer, itemStack);
+        DensityGovernor.onPlaced(world, pos, placer);
+    }
+
     // === INTERACTIONS ===
 
     /**
@@ -83,31 +97,35 @@ public class ForgeBlock extends Block implements BlockEntityProvider {
         ItemStack handStack = player.getStackInHand(Hand.MAIN_HAND);
         ItemStack forgeStack = forgeEntity.getStack(ForgeBlockEntity.ITEM_SLOT);
 
-        // If holding item and forge is empty, insert
-        if (!handStack.isEmpty() && forgeStack.isEmpty()) {
-            // Take one item from hand
-            ItemStack toInsert = handStack.split(1);
-            forgeEntity.setStack(ForgeBlockEntity.ITEM_SLOT, toInsert);
+        // If holding metal (or a forging input), insert as much as fits (auto-lights)
+        if (!handStack.isEmpty()) {
+            return forgeEntity.insertMetal(handStack) > 0 ? ActionResult.SUCCESS : ActionResult.PASS;
+        }
 
-            // Auto-light forge
-            forgeEntity.light();
+        // If empty hand and forge has item, extract one (or all when sneaking)
+        if (!forgeStack.isEmpty()) {
+            // Give item to player; the forge goes out once it's empty
+            player.setStackInHand(Hand.MAIN_HAND, forgeEntity.takeMetal(player.isSneaking()));
 
             return ActionResult.SUCCESS;
         }
 
-        // If empty hand and forge has item, extract
-        if (handStack.isEmpty() && !forgeStack.isEmpty()) {
-            // Give item to player
-            player.setStackInHand(Hand.MAIN_HAND, forgeStack.copy());
-            forgeEntity.removeStack(ForgeBlockEntity.ITEM_SLOT);
+        return ActionResult.PASS;
+    }
 
-            // Extinguish forge
-            forgeEntity.extinguish();
+    // === COMPARATOR ===
 
-            return ActionResult.SUCCESS;
-        }
+    @Override
+    protected boolean hasComparatorOutput(BlockState state) {
+        return true;
+    }
 
-        return ActionResult.PASS;
+    /**
+     * Cached level from the block entity - see ForgeBlockEntity for the mapping.
+     */
+    @Override
+    protected int getComparatorOutput(BlockState state, World world, BlockPos pos) {
+        return world.getBlockEntity(pos) instanceof ForgeBlockEntity forgeEntity ? forgeEntity.getComparatorLevel() : 0;
     }
 
     /**
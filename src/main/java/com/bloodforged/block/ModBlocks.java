@@ -1,6 +1,7 @@
 package com.bloodforged.block;
 
 import com.bloodforged.BloodForged;
+import com.bloodforged.block.entity.OreMachineBlockEntity;
 import net.fabricmc.fabric.api.itemgroup.v1.ItemGroupEvents;
 import net.minecraft.block.AbstractBlock;
 import net.minecraft.block.Block;
@@ -47,6 +48,46 @@ public class ModBlocks {
             )
     );
 
+    // Assembly Table - for putting tool parts together
+    public static final Block ASSEMBLY_TABLE = registerBlock("assembly_table",
+            new AssemblyTableBlock(AbstractBlock.Settings.create()
+                    .registryKey(blockKeyOf("assembly_table"))
+                    .strength(2.5f)
+                    .sounds(BlockSoundGroup.WOOD)
+            )
+    );
+
+    // Crusher - raw ore into unwashed dust
+    public static final Block CRUSHER = registerBlock("crusher",
+            new OreMachineBlock(AbstractBlock.Settings.create()
+                    .registryKey(blockKeyOf("crusher"))
+                    .strength(3.5f)
+                    .requiresTool()
+                    .sounds(BlockSoundGroup.STONE),
+                    OreMachineBlockEntity.Stage.CRUSHER
+            )
+    );
+
+    // Washer - unwashed dust into clean dust
+    public static final Block WASHER = registerBlock("washer",
+            new OreMachineBlock(AbstractBlock.Settings.create()
+                    .registryKey(blockKeyOf("washer"))
+                    .strength(2.5f)
+                    .sounds(BlockSoundGroup.WOOD),
+                    OreMachineBlockEntity.Stage.WASHER
+            )
+    );
+
+    // Trip Hammer - smiths on the anvil below when powered
+    public static final Block TRIP_HAMMER = registerBlock("trip_hammer",
+            new TripHammerBlock(AbstractBlock.Settings.create()
+                    .registryKey(blockKeyOf("trip_hammer"))
+                    .strength(3.5f)
+                    .requiresTool()
+                    .sounds(BlockSoundGroup.METAL)
+            )
+    );
+
 
     // === HELPER METHODS ===
 
@@ -75,6 +116,10 @@ public class ModBlocks {
             entries.add(SMITHING_ANVIL);
             entries.add(FORGE);
             entries.add(OPEN_FURNACE);
+            entries.add(ASSEMBLY_TABLE);
+            entries.add(CRUSHER);
+            entries.add(WASHER);
+            entries.add(TRIP_HAMMER);
         });
     }
 }
\ No newline at end of file
@@ -1,14 +1,157 @@
 package com.bloodforged.block;
 
+import com.bloodforged.BloodForged;
+import com.bloodforged.block.entity.DensityGovernor;
+import com.bloodforged.block.entity.ModBlockEntities;
+import com.bloodforged.block.entity.OpenFurnaceBlockEntity;
+import com.bloodforged.recipe.AlloyMatch;
 import net.minecraft.block.Block;
+import net.minecraft.block.BlockEntityProvider;
 import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.BlockEntityTicker;
+import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.text.Text;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Hand;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.ItemScatterer;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldView;
+import net.minecraft.world.tick.ScheduledTickView;
+import org.jetbrains.annotations.Nullable;
 
-public class OpenFurnaceBlock extends Block {
+/**
+ * Core block of the open furnace multiblock - batch smelts ore and dust into ingots,
+ * and mixes alloys from the right ratios of ingredients.
+ *
+ * See OpenFurnaceBlockEntity for the structure and smelting rules.
+ *
+ * INTERACTION:
+ * - Right-click with ore/dust → Insert into the input slots
+ * - Right-click with fuel     → Insert into the fuel slot
+ * - Right-click empty hand    → Collect all finished ingots, report the alloy being mixed
+ * - Incomplete structure      → Action bar says so
+ */
+public class OpenFurnaceBlock extends Block implements BlockEntityProvider {
+
+    /**
+     * Blocks that count as furnace casing (sides and hearth).
+     * JSON: data/bloodforged/tags/block/open_furnace_casing.json
+     */
+    public static final TagKey<Block> CASING =
+            TagKey.of(RegistryKeys.BLOCK, Identifier.of(BloodForged.MOD_ID, "open_furnace_casing"));
 
     public OpenFurnaceBlock(Settings settings) {
         super(settings);
     }
 
-    // Basic block for now
-    // Will add smelting mechanics in Phase 3
-}
\ No newline at end of file
+    public static boolean isCasing(BlockState state) {
+        return state.isIn(CASING);
+    }
+
+    // === BLOCK ENTITY PROVIDER ===
+
+    @Nullable
+    @Override
+    public BlockEntity createBlockEntity(BlockPos pos, BlockState state) {
+        return new OpenFurnaceBlockEntity(pos, state);
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(World world, BlockState state, BlockEntityType<T> type) {
+        if (world.isClient) {
+            return null;
+        }
+
+        if (type == ModBlockEntities.OPEN_FURNACE_BLOCK_ENTITY) {
+            return (BlockEntityTicker<T>) DensityGovernor.<OpenFurnaceBlockEntity>ticker(OpenFurnaceBlockEntity::tick);
+        }
+
+        return null;
+    }
+
+    // === STRUCTURE ===
+
+    /**
+     * A direct neighbour changed - pass just that position on to the controller.
+     * All structure positions are direct neighbours, so nothing else can break it.
+     */
+    @Override
+    protected BlockState getStateForNeighborUpdate(BlockState state, WorldView world, ScheduledTickView tickView,
+                                                   BlockPos pos, Direction direction, BlockPos neighborPos,
+                                                   BlockState neighborState, Random random) {
+        if (world instanceof ServerWorld && world.getBlockEntity(pos) instanceof OpenFurnaceBlockEntity furnace) {
+            furnace.onNeighborChanged(direction, neighborState);
+        }
+        return super.getStateForNeighborUpdate(state, world, tickView, pos, direction, neighborPos, neighborState, random);
+    }
+
+    // === PLACEMENT ===
+
+    /**
+     * Record who placed it, for the DensityGovernor's per-player count.
+     */
+    @Override
+    public void onPlaced(World world, BlockPos pos, BlockState state, @Nullable LivingEntity placer, ItemStack itemStack) {
+        super.onPlaced(world, pos, state, placer, itemStack);
+        DensityGovernor.onPlaced(world, pos, placer);
+    }
+
+    // === INTERACTIONS ===
+
+    @Override
+    protected ActionResult onUse(BlockState state, World world, BlockPos pos, PlayerEntity player, BlockHitResult hit) {
+        if (world.isClient) {
+            return ActionResult.SUCCESS;
+        }
+
+        if (!(world.getBlockEntity(pos) instanceof OpenFurnaceBlockEntity furnace)) {
+            return ActionResult.PASS;
+        }
+
+        if (!furnace.isFormed()) {
+            player.sendMessage(Text.translatable("message.bloodforged.open_furnace.incomplete"), true);
+        }
+
+        ItemStack handStack = player.getStackInHand(Hand.MAIN_HAND);
+        if (!handStack.isEmpty()) {
+            return furnace.insert(handStack) ? ActionResult.SUCCESS : ActionResult.PASS;
+        }
+
+        for (ItemStack ingots : furnace.takeOutputs()) {
+            player.getInventory().offerOrDrop(ingots);
+        }
+
+        AlloyMatch alloy = furnace.getAlloy();
+        if (alloy != null) {
+            player.sendMessage(Text.translatable("message.bloodforged.open_furnace.alloying",
+                    alloy.units(), alloy.recipe().getResult().getName(), alloy.leftoverUnits()), true);
+        }
+        return ActionResult.SUCCESS;
+    }
+
+    /**
+     * Drop items when broken.
+     */
+    @Override
+    public BlockState onBreak(World world, BlockPos pos, BlockState state, PlayerEntity player) {
+        if (world.getBlockEntity(pos) instanceof OpenFurnaceBlockEntity furnace) {
+            ItemScatterer.spawn(world, pos, furnace);
+        }
+
+        return super.onBreak(world, pos, state, player);
+    }
+}
@@ -0,0 +1,89 @@
+package com.bloodforged.block;
+
+import com.bloodforged.block.entity.OreMachineBlockEntity;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockEntityProvider;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Hand;
+import net.minecraft.util.ItemScatterer;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Ore processing machine - crusher or washer, depending on its stage.
+ *
+ * Place machines next to each other to chain them:
+ *   [Crusher] → [Washer] → [Open Furnace]
+ * See OreMachineBlockEntity and OreLines for how a line runs.
+ *
+ * INTERACTION:
+ * - Right-click with input → Insert into the machine
+ * - Right-click empty hand → Take the processed output
+ *
+ * No ticker: the world's OreLines controller advances every machine.
+ */
+public class OreMachineBlock extends Block implements BlockEntityProvider {
+
+    private final OreMachineBlockEntity.Stage stage;
+
+    public OreMachineBlock(Settings settings, OreMachineBlockEntity.Stage stage) {
+        super(settings);
+        this.stage = stage;
+    }
+
+    public OreMachineBlockEntity.Stage getStage() {
+        return stage;
+    }
+
+    // === BLOCK ENTITY PROVIDER ===
+
+    @Nullable
+    @Override
+    public BlockEntity createBlockEntity(BlockPos pos, BlockState state) {
+        return new OreMachineBlockEntity(pos, state);
+    }
+
+    // === INTERACTIONS ===
+
+    @Override
+    protected ActionResult onUse(BlockState state, World world, BlockPos pos, PlayerEntity player, BlockHitResult hit) {
+        if (world.isClient) {
+            return ActionResult.SUCCESS;
+        }
+
+        if (!(world.getBlockEntity(pos) instanceof OreMachineBlockEntity machine)) {
+            return ActionResult.PASS;
+        }
+
+        ItemStack handStack = player.getStackInHand(Hand.MAIN_HAND);
+        if (!handStack.isEmpty()) {
+            return machine.accept(handStack) ? ActionResult.SUCCESS : ActionResult.PASS;
+        }
+
+        ItemStack output = machine.removeStack(OreMachineBlockEntity.OUTPUT_SLOT);
+        if (output.isEmpty()) {
+            return ActionResult.PASS;
+        }
+        player.setStackInHand(Hand.MAIN_HAND, output);
+        machine.markDirty();
+        return ActionResult.SUCCESS;
+    }
+
+    /**
+     * Drop items when broken.
+     */
+    @Override
+    public BlockState onBreak(World world, BlockPos pos, BlockState state, PlayerEntity player) {
+        if (world.getBlockEntity(pos) instanceof OreMachineBlockEntity machine) {
+            ItemScatterer.spawn(world, pos, machine);
+        }
+
+        return super.onBreak(world, pos, state, player);
+    }
+}
@@ -0,0 +1,123 @@
+package com.bloodforged.block;
+
+import com.bloodforged.block.entity.AnvilBlockEntity;
+import com.bloodforged.block.entity.StrikeOutcomeTable;
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvents;
+import net.minecraft.state.StateManager;
+import net.minecraft.state.property.BooleanProperty;
+import net.minecraft.state.property.Properties;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.World;
+import net.minecraft.world.block.WireOrientation;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Trip hammer - a redstone-powered hammer that smiths on the anvil below it.
+ *
+ * CONCEPT:
+ * Playing out a session strike by strike (AnvilBlockEntity.handleHammerStrike)
+ * is fine for a player, but wasteful for a machine nobody is watching. The trip
+ * hammer's strikes always come from the same accuracy profile, so the whole
+ * session is drawn at once from its precomputed StrikeOutcomeTable: one sample
+ * gives the final quality and how many strikes it took.
+ *
+ * USAGE:
+ *   [Trip Hammer]
+ *   [Smithing Anvil]  <- hot metal in the top, parts out the bottom
+ *
+ * A redstone pulse (rising edge) finishes the part on the anvil immediately.
+ * The hammer then stays WORKING for as long as those strikes would have taken
+ * (STRIKE_TICKS each), ignoring further pulses, so automation runs at the same
+ * pace as a player would.
+ *
+ * The draw is seeded from the world seed, position and game time: the same
+ * world replayed gives the same parts. The metal doesn't cool during the
+ * session; it is resolved at the temperature it had when the hammer fell.
+ */
+public class TripHammerBlock extends Block {
+
+    public static final BooleanProperty TRIGGERED = Properties.TRIGGERED;
+    public static final BooleanProperty WORKING = BooleanProperty.of("working");
+
+    /**
+     * Game ticks per strike of the hammer.
+     */
+    public static final int STRIKE_TICKS = 8;
+
+    /**
+     * Accuracy of the hammer's mechanism: consistent, but never perfect every time.
+     */
+    public static final StrikeOutcomeTable.AccuracyProfile PROFILE =
+            new StrikeOutcomeTable.AccuracyProfile(0.3f, 0.95f);
+
+    public TripHammerBlock(Settings settings) {
+        super(settings);
+        setDefaultState(getDefaultState().with(TRIGGERED, false).with(WORKING, false));
+    }
+
+    @Override
+    protected void appendProperties(StateManager.Builder<Block, BlockState> builder) {
+        builder.add(TRIGGERED, WORKING);
+    }
+
+    // === REDSTONE ===
+
+    @Override
+    protected void neighborUpdate(BlockState state, World world, BlockPos pos, Block sourceBlock,
+                                  @Nullable WireOrientation wireOrientation, boolean notify) {
+        if (!(world instanceof ServerWorld serverWorld)) {
+            return;
+        }
+
+        boolean powered = world.isReceivingRedstonePower(pos);
+        boolean triggered = state.get(TRIGGERED);
+        if (powered && !triggered) {
+            state = state.with(TRIGGERED, true);
+            if (!state.get(WORKING)) {
+                state = strike(serverWorld, pos, state);
+            }
+            world.setBlockState(pos, state, Block.NOTIFY_LISTENERS);
+        } else if (!powered && triggered) {
+            world.setBlockState(pos, state.with(TRIGGERED, false), Block.NOTIFY_LISTENERS);
+        }
+    }
+
+    /**
+     * Resolve a whole session on the anvil below.
+     *
+     * @return The hammer's new state (WORKING if a part was made)
+     */
+    private BlockState strike(ServerWorld world, BlockPos pos, BlockState state) {
+        if (!(world.getBlockEntity(pos.down()) instanceof AnvilBlockEntity anvil) || !anvil.canSmithAutomatically()) {
+            return state;
+        }
+
+        StrikeOutcomeTable table = StrikeOutcomeTable.forProfile(PROFILE);
+        long seed = world.getSeed() ^ HashCommon.murmurHash3(pos.asLong() + world.getTime());
+        int outcome = table.sample(seed);
+
+        if (!anvil.smithAutomatically(table.quality(outcome))) {
+            return state;
+        }
+
+        world.playSound(null, pos.down(), SoundEvents.BLOCK_ANVIL_USE, SoundCategory.BLOCKS, 1.0f, 1.0f);
+        world.scheduleBlockTick(pos, this, table.strikes(outcome) * STRIKE_TICKS);
+        return state.with(WORKING, true);
+    }
+
+    /**
+     * The session's strikes are over - ready for the next pulse.
+     */
+    @Override
+    protected void scheduledTick(BlockState state, ServerWorld world, BlockPos pos, Random random) {
+        if (state.get(WORKING)) {
+            world.setBlockState(pos, state.with(WORKING, false), Block.NOTIFY_LISTENERS);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.bloodforged.block.entity;
 
 import com.bloodforged.component.ModDataComponents;
+import com.bloodforged.recipe.AnvilSmithingRecipe;
+import com.bloodforged.recipe.ModRecipes;
 import com.bloodforged.screen.AnvilScreenHandler;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -13,10 +17,13 @@ import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.screen.NamedScreenHandlerFactory;
 import net.minecraft.screen.PropertyDelegate;
 import net.minecraft.screen.ScreenHandler;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * AnvilBlockEntity - The "brain" of the smithing anvil.
@@ -38,8 +45,21 @@ import net.minecraft.world.World;
  * [0] INPUT  - Hot metal to be worked
  * [1] HAMMER - Tool used for smithing (future: different hammers)
  * [2] OUTPUT - Finished tool part
+ * 
+ * AUTOMATION (hoppers, pipes - see MachineItemStorage):
+ * - Top:    hot metal in (one piece, while idle)
+ * - Sides:  hammer in
+ * - Bottom: finished parts out
+ * 
+ * COMPARATOR OUTPUT:
+ * - 0     empty
+ * - 1     metal waiting (not being smithed)
+ * - 1-14  smithing, by progress
+ * - 15    finished part in the output slot
+ * Cached; comparators are only notified when the level changes.
  */
-public class AnvilBlockEntity extends BlockEntity implements ImplementedInventory, NamedScreenHandlerFactory {
+public class AnvilBlockEntity extends BlockEntity implements MachineItemStorage.ImplementedSidedInventory, NamedScreenHandlerFactory,
+        DensityGovernor.Governed {
 
     // === INVENTORY ===
     
@@ -54,6 +74,11 @@ public class AnvilBlockEntity extends BlockEntity implements ImplementedInventor
      */
     private final DefaultedList<ItemStack> inventory = DefaultedList.ofSize(3, ItemStack.EMPTY);
     
+    /**
+     * Per-slot change counters (see InventoryRevisions).
+     */
+    private final InventoryRevisions revisions = new InventoryRevisions(3);
+    
     // === SMITHING STATE ===
     
     /**
@@ -110,6 +135,11 @@ public class AnvilBlockEntity extends BlockEntity implements ImplementedInventor
      */
     private boolean isSmithing = false;
     
+    /**
+     * Last comparator level handed to neighbours (not saved - recomputed on load).
+     */
+    private int comparatorLevel = 0;
+    
     // === CONSTANTS ===
     
     /**
@@ -120,6 +150,23 @@ public class AnvilBlockEntity extends BlockEntity implements ImplementedInventor
      */
     private static final int MIN_SMITHING_TEMP = 800;
     
+    /**
+     * Strike tiers, best first: perfect, good, okay, miss.
+     * A strike lands in the first tier whose minimum accuracy it reaches.
+     * StrikeOutcomeTable derives its distributions from these same arrays.
+     */
+    public static final int STRIKE_TIERS = 4;
+    public static final float[] STRIKE_ACCURACY = { 0.9f, 0.7f, 0.4f, 0.0f };
+    public static final int[] STRIKE_PROGRESS = { 10, 7, 3, 0 };
+    public static final int[] STRIKE_QUALITY = { 5, 3, 1, -2 };
+    
+    /**
+     * Progress at which the part is finished, and the quality bounds.
+     */
+    public static final int MAX_PROGRESS = 100;
+    public static final int MAX_QUALITY = 120;
+    public static final int START_QUALITY = 50;
+    
     /**
      * How fast metal cools (degrees per second).
      * 
@@ -139,6 +186,18 @@ public class AnvilBlockEntity extends BlockEntity implements ImplementedInventor
     public static final int HAMMER_SLOT = 1;
     public static final int OUTPUT_SLOT = 2;
     
+    private static final int[] TOP_SLOTS = { INPUT_SLOT };
+    private static final int[] BOTTOM_SLOTS = { OUTPUT_SLOT };
+    private static final int[] SIDE_SLOTS = { HAMMER_SLOT };
+    
+    // === AUTOMATION ===
+    
+    /**
+     * Transfer API view. Input and hammer hold one item each; one dirty mark per transfer.
+     */
+    private final MachineItemStorage itemStorage =
+            new MachineItemStorage(this, slot -> slot == OUTPUT_SLOT ? 64 : 1, this::onStorageCommit);
+    
     // === PROPERTY DELEGATE ===
     
     /**
@@ -206,6 +265,65 @@ public class AnvilBlockEntity extends BlockEntity implements ImplementedInventor
         return inventory;
     }
     
+    @Override
+    public InventoryRevisions getRevisions() {
+        return revisions;
+    }
+    
+    /**
+     * Metal placed in the input slot brings its temperature with it,
+     * whether a player, a hopper or the screen put it there.
+     */
+    @Override
+    public void setStack(int slot, ItemStack stack) {
+        MachineItemStorage.ImplementedSidedInventory.super.setStack(slot, stack);
+        if (slot == INPUT_SLOT) {
+            syncInputTemperature();
+        }
+    }
+    
+    // === SIDED INVENTORY ===
+    
+    @Override
+    public int[] getAvailableSlots(Direction side) {
+        return switch (side) {
+            case UP -> TOP_SLOTS;
+            case DOWN -> BOTTOM_SLOTS;
+            default -> SIDE_SLOTS;
+        };
+    }
+    
+    @Override
+    public boolean canInsert(int slot, ItemStack stack, @Nullable Direction side) {
+        return switch (slot) {
+            case INPUT_SLOT -> side != Direction.DOWN && !isSmithing
+                    && inventory.get(INPUT_SLOT).isEmpty() && isHotMetal(stack, false);
+            case HAMMER_SLOT -> side != Direction.UP && side != Direction.DOWN
+                    && inventory.get(HAMMER_SLOT).isEmpty();
+            default -> false;
+        };
+    }
+    
+    @Override
+    public boolean canExtract(int slot, ItemStack stack, Direction side) {
+        return slot == OUTPUT_SLOT && side != Direction.UP;
+    }
+    
+    /**
+     * Item storage for one side (registered with ItemStorage.SIDED).
+     */
+    public Storage<ItemVariant> getItemStorage(@Nullable Direction side) {
+        return itemStorage.get(side);
+    }
+    
+    /**
+     * End of a committed transfer: pick up the new metal's temperature, mark dirty once.
+     */
+    private void onStorageCommit() {
+        syncInputTemperature();
+        markDirty();
+    }
+    
     // === SCREEN HANDLER FACTORY ===
     
     /**
@@ -255,6 +373,7 @@ public class AnvilBlockEntity extends BlockEntity implements ImplementedInventor
         nbt.putInt("progress", progress);
         nbt.putInt("quality", quality);
         nbt.putBoolean("isSmithing", isSmithing);
+        ticket.writeNbt(nbt);
     }
     
     /**
@@ -277,6 +396,70 @@ public class AnvilBlockEntity extends BlockEntity implements ImplementedInventor
         progress = nbt.getInt("progress").orElse(0);
         quality = nbt.getInt("quality").orElse(50);
         isSmithing = nbt.getBoolean("isSmithing").orElse(false);
+        ticket.readNbt(nbt);
+        revisions.bumpAll();
+        comparatorLevel = computeComparatorLevel();
+    }
+    
+    // === SPATIAL INDEX / DENSITY ===
+    
+    /**
+     * Placed or chunk loaded: join the world's SmithySpatialIndex and DensityGovernor.
+     */
+    @Override
+    public void setWorld(World world) {
+        super.setWorld(world);
+        if (world instanceof ServerWorld serverWorld) {
+            SmithySpatialIndex.get(serverWorld).anvils().add(this);
+            DensityGovernor.get(serverWorld).add(this);
+        }
+    }
+    
+    /**
+     * Broken or chunk unloaded: leave both.
+     */
+    @Override
+    public void markRemoved() {
+        super.markRemoved();
+        if (world instanceof ServerWorld serverWorld) {
+            SmithySpatialIndex.get(serverWorld).anvils().remove(this);
+            DensityGovernor.get(serverWorld).remove(this);
+        }
+    }
+    
+    @Override
+    public DensityGovernor.Ticket getTicket() {
+        return ticket;
+    }
+    
+    // === DIRTY TRACKING ===
+    
+    /**
+     * Mark for saving. Cooling calls this every few ticks, so the vanilla
+     * comparator update is replaced by one that only fires when the level changes.
+     */
+    @Override
+    public void markDirty() {
+        if (world == null) {
+            return;
+        }
+        world.markDirty(pos);
+        
+        int level = computeComparatorLevel();
+        if (level != comparatorLevel) {
+            comparatorLevel = level;
+            world.updateComparators(pos, getCachedState().getBlock());
+        }
+    }
+    
+    private int computeComparatorLevel() {
+        if (!inventory.get(OUTPUT_SLOT).isEmpty()) {
+            return 15;
+        }
+        if (isSmithing) {
+            return 1 + progress * 13 / 100;
+        }
+        return inventory.get(INPUT_SLOT).isEmpty() ? 0 : 1;
     }
     // === TICKING LOGIC ===
     
@@ -291,8 +474,10 @@ public class AnvilBlockEntity extends BlockEntity implements ImplementedInventor
      * 2. Decrease temperature
      * 3. Stop smithing if too cold
      * 4. Update quality if working cold metal (penalty)
+     * 
+     * @param elapsed Ticks to advance (more than 1 when throttled, see DensityGovernor)
      */
-    public static void tick(World world, BlockPos pos, BlockState state, AnvilBlockEntity blockEntity) {
+    public static void tick(World world, BlockPos pos, BlockState state, AnvilBlockEntity blockEntity, int elapsed) {
         // Only run on server
         if (world.isClient) {
             return;
@@ -307,8 +492,11 @@ public class AnvilBlockEntity extends BlockEntity implements ImplementedInventor
             // COOLING_RATE is per second, we tick 20 times per second
             // Decrease by 1 degree every 4 ticks (5°C per second / 20 ticks = 0.25 per tick)
             // We'll cool 1 degree every 4 ticks instead of trying to handle fractions
-            if (world.getTime() % 4 == 0) {
-                blockEntity.temperature -= 1;
+            // (one degree per multiple of 4 in the elapsed ticks)
+            long time = world.getTime();
+            int degrees = (int) (Math.floorDiv(time, 4) - Math.floorDiv(time - elapsed, 4));
+            if (degrees > 0) {
+                blockEntity.temperature -= degrees;
 
                 // Don't go below 0
                 if (blockEntity.temperature < 0) {
@@ -355,7 +543,7 @@ public class AnvilBlockEntity extends BlockEntity implements ImplementedInventor
         // Start smithing!
         isSmithing = true;
         progress = 0;
-        quality = 50; // Start at neutral quality
+        quality = START_QUALITY; // Start at neutral quality
         
         markDirty();
         return true;
@@ -372,44 +560,68 @@ public class AnvilBlockEntity extends BlockEntity implements ImplementedInventor
         }
         
         // Calculate progress gain
-        int progressGain = 0;
-        int qualityGain = 0;
-        
-        if (accuracy >= 0.9f) {
-            // Perfect hit
-            progressGain = 10;
-            qualityGain = 5;
-        } else if (accuracy >= 0.7f) {
-            // Good hit
-            progressGain = 7;
-            qualityGain = 3;
-        } else if (accuracy >= 0.4f) {
-            // Okay hit
-            progressGain = 3;
-            qualityGain = 1;
-        } else {
-            // Miss
-            qualityGain = -2;
-        }
+        int tier = strikeTier(accuracy);
+        int progressGain = STRIKE_PROGRESS[tier];
+        int qualityGain = STRIKE_QUALITY[tier];
         
         // Apply changes
         progress += progressGain;
         quality += qualityGain;
         
         // Clamp values
-        progress = Math.min(progress, 100);
-        quality = Math.max(0, Math.min(120, quality));
+        progress = Math.min(progress, MAX_PROGRESS);
+        quality = Math.max(0, Math.min(MAX_QUALITY, quality));
         
         // Check if complete
-        if (progress >= 100) {
+        if (progress >= MAX_PROGRESS) {
             completeSmithing();
         }
         
         markDirty();
     }
     
+    /**
+     * Tier a strike of the given accuracy lands in (index into the STRIKE_ arrays).
+     */
+    public static int strikeTier(float accuracy) {
+        for (int tier = 0; tier < STRIKE_TIERS - 1; tier++) {
+            if (accuracy >= STRIKE_ACCURACY[tier]) {
+                return tier;
+            }
+        }
+        return STRIKE_TIERS - 1;
+    }
+    
+    /**
+     * Whether a machine (trip hammer) could smith the current input right now:
+     * hot metal waiting, output free, and no player mid-session.
+     */
+    public boolean canSmithAutomatically() {
+        return !isSmithing && !inventory.get(INPUT_SLOT).isEmpty()
+                && inventory.get(OUTPUT_SLOT).isEmpty() && temperature >= MIN_SMITHING_TEMP;
+    }
+    
+    /**
+     * Finish a whole session at once with an already resolved quality.
+     * Used by the trip hammer, which never plays the strikes out one by one.
+     * 
+     * @return true if a part was made
+     */
+    public boolean smithAutomatically(int finalQuality) {
+        if (!canSmithAutomatically()) {
+            return false;
+        }
+        quality = Math.max(0, Math.min(MAX_QUALITY, finalQuality));
+        completeSmithing();
+        return true;
+    }
+    
     /**
      * Finish smithing and create the output item.
+     * 
+     * The output comes from the smithing recipe for the input (e.g. hot bronze
+     * ingot → bronze tool blade). Without a recipe, the input itself is
+     * reworked and only gains the quality.
      */
     private void completeSmithing() {
         ItemStack inputStack = inventory.get(INPUT_SLOT);
@@ -419,7 +631,8 @@ public class AnvilBlockEntity extends BlockEntity implements ImplementedInventor
         }
         
         // Create output item with quality
-        ItemStack outputStack = inputStack.copy();
+        AnvilSmithingRecipe recipe = ModRecipes.SMITHING_INDEX.find(inputStack, temperature, false);
+        ItemStack outputStack = recipe != null ? recipe.craft(inputStack, false) : inputStack.copy();
         outputStack.set(ModDataComponents.QUALITY, quality);
         outputStack.remove(ModDataComponents.TEMPERATURE); // No longer hot
         
@@ -428,16 +641,45 @@ public class AnvilBlockEntity extends BlockEntity implements ImplementedInventor
         
         // Remove input
         inventory.set(INPUT_SLOT, ItemStack.EMPTY);
+        revisions.bump(OUTPUT_SLOT);
+        revisions.bump(INPUT_SLOT);
         
         // Reset state
         isSmithing = false;
         progress = 0;
-        quality = 50;
+        quality = START_QUALITY;
         temperature = 0;
         
         markDirty();
     }
     
+    /**
+     * Current comparator level (0-15), from cached state.
+     */
+    public int getComparatorLevel() {
+        return comparatorLevel;
+    }
+    
+    /**
+     * Check if a stack is metal hot enough to work.
+     */
+    public static boolean isHotMetal(ItemStack stack, boolean isClient) {
+        Integer temp = stack.get(ModDataComponents.TEMPERATURE);
+        return temp != null && temp >= MIN_SMITHING_TEMP && ForgeBlockEntity.canHeat(stack, isClient);
+    }
+    
+    /**
+     * Take the temperature of freshly placed metal. Never while smithing:
+     * the anvil's own (cooling) temperature is the truth then.
+     */
+    private void syncInputTemperature() {
+        if (isSmithing) {
+            return;
+        }
+        Integer temp = inventory.get(INPUT_SLOT).get(ModDataComponents.TEMPERATURE);
+        temperature = temp != null ? temp : 0;
+    }
+    
     /**
      * Load temperature from input item when placed.
      */
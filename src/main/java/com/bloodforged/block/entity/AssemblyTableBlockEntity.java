@@ -0,0 +1,239 @@
+package com.bloodforged.block.entity;
+
+import com.bloodforged.item.ToolPartItem;
+import com.bloodforged.material.MaterialRegistry;
+import com.bloodforged.tool.AssembledToolStats;
+import com.bloodforged.tool.AssemblyWorkers;
+import com.bloodforged.tool.ToolAssembly;
+import com.bloodforged.tool.ToolPart;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.inventory.Inventories;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.collection.DefaultedList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AssemblyTableBlockEntity - Combines blade + handle + guard into a modular tool.
+ *
+ * Unlike the crafting recipe, the stat math never runs on the server thread:
+ * 1. All three part slots filled → parts are read into immutable ToolPart records
+ * 2. AssemblyWorkers computes the stats on a worker thread (against a snapshot)
+ * 3. The result comes back through server.execute() and is applied on the server thread
+ *
+ * While the result is in flight the table is PENDING: the output slot stays empty
+ * and the parts can't be used for anything else. If the parts changed in the
+ * meantime, the result is thrown away and the new parts are submitted.
+ *
+ * The tick only looks at the slots when their revision changed, so an idle
+ * (or rejected) table costs one int comparison per tick.
+ *
+ * INVENTORY SLOTS:
+ * [0] BLADE
+ * [1] HANDLE
+ * [2] GUARD
+ * [3] OUTPUT - Finished tool
+ */
+public class AssemblyTableBlockEntity extends BlockEntity implements ImplementedInventory, DensityGovernor.Governed {
+
+    // === INVENTORY ===
+
+    private final DefaultedList<ItemStack> inventory = DefaultedList.ofSize(4, ItemStack.EMPTY);
+    private final InventoryRevisions revisions = new InventoryRevisions(4);
+
+    public static final int BLADE_SLOT = 0;
+    public static final int HANDLE_SLOT = 1;
+    public static final int GUARD_SLOT = 2;
+    public static final int OUTPUT_SLOT = 3;
+
+    // === STATE (not saved - recomputed after load) ===
+
+    /**
+     * True while a computation is running for the current parts.
+     */
+    private boolean pending = false;
+
+    /**
+     * Inventory revision the tick last acted on. Parts that were found invalid
+     * (unknown material, missing stats) are not resubmitted until it changes.
+     */
+    private int checkedRevision = -1;
+
+    /**
+     * Owner and throttle state, see DensityGovernor (saved).
+     */
+    private final DensityGovernor.Ticket ticket = new DensityGovernor.Ticket();
+
+    // === CONSTRUCTOR ===
+
+    public AssemblyTableBlockEntity(BlockPos pos, BlockState state) {
+        super(ModBlockEntities.ASSEMBLY_TABLE_BLOCK_ENTITY, pos, state);
+    }
+
+    // === INVENTORY INTERFACE ===
+
+    @Override
+    public DefaultedList<ItemStack> getItems() {
+        return inventory;
+    }
+
+    @Override
+    public InventoryRevisions getRevisions() {
+        return revisions;
+    }
+
+    // === NBT SERIALIZATION ===
+
+    @Override
+    protected void writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        super.writeNbt(nbt, registryLookup);
+        Inventories.writeNbt(nbt, inventory, registryLookup);
+        ticket.writeNbt(nbt);
+    }
+
+    @Override
+    protected void readNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        super.readNbt(nbt, registryLookup);
+        Inventories.readNbt(nbt, inventory, registryLookup);
+        ticket.readNbt(nbt);
+        revisions.bumpAll();
+    }
+
+    // === DENSITY ===
+
+    /**
+     * Placed or chunk loaded: count towards the world's DensityGovernor.
+     */
+    @Override
+    public void setWorld(World world) {
+        super.setWorld(world);
+        if (world instanceof ServerWorld serverWorld) {
+            DensityGovernor.get(serverWorld).add(this);
+        }
+    }
+
+    @Override
+    public void markRemoved() {
+        super.markRemoved();
+        if (world instanceof ServerWorld serverWorld) {
+            DensityGovernor.get(serverWorld).remove(this);
+        }
+    }
+
+    @Override
+    public DensityGovernor.Ticket getTicket() {
+        return ticket;
+    }
+
+    // === TICKING LOGIC ===
+
+    /**
+     * Tick - submit work when the table is full. Never computes stats itself.
+     * Nothing here depends on time, so a throttled table ignores elapsed.
+     */
+    public static void tick(World world, BlockPos pos, BlockState state, AssemblyTableBlockEntity blockEntity, int elapsed) {
+        if (world.isClient || blockEntity.pending || !blockEntity.inventory.get(OUTPUT_SLOT).isEmpty()) {
+            return;
+        }
+
+        // Nothing moved since the last look
+        int revision = blockEntity.revisions.total();
+        if (revision == blockEntity.checkedRevision) {
+            return;
+        }
+
+        ToolPart[] parts = blockEntity.readParts();
+        if (parts == null) {
+            blockEntity.checkedRevision = revision;
+            return;
+        }
+
+        CompletableFuture<AssembledToolStats> future = AssemblyWorkers.submit(
+                MaterialRegistry.INSTANCE.snapshot(false), parts[0], parts[1], parts[2]);
+        if (future == null) {
+            return; // Pool saturated, try again next tick
+        }
+
+        blockEntity.pending = true;
+        blockEntity.checkedRevision = revision;
+        MinecraftServer server = world.getServer();
+        future.whenComplete((stats, error) -> server.execute(() -> blockEntity.applyResult(parts, stats, error)));
+    }
+
+    /**
+     * Apply a finished computation. Runs on the server thread.
+     */
+    private void applyResult(ToolPart[] parts, AssembledToolStats stats, Throwable error) {
+        pending = false;
+        if (isRemoved()) {
+            return;
+        }
+
+        // Parts changed while computing - drop it, tick will resubmit
+        if (!Arrays.equals(parts, readParts())) {
+            return;
+        }
+
+        // Invalid parts: checkedRevision stays put, so they aren't resubmitted
+        if (error != null || stats == null) {
+            return;
+        }
+
+        ItemStack tool = ToolAssembly.createTool(stats);
+        ToolAssembly.carryWear(tool, inventory.get(BLADE_SLOT), inventory.get(GUARD_SLOT));
+
+        inventory.set(BLADE_SLOT, ItemStack.EMPTY);
+        inventory.set(HANDLE_SLOT, ItemStack.EMPTY);
+        inventory.set(GUARD_SLOT, ItemStack.EMPTY);
+        inventory.set(OUTPUT_SLOT, tool);
+        revisions.bumpAll();
+        markDirty();
+    }
+
+    /**
+     * Read the three part slots.
+     *
+     * @return [blade, handle, guard], or null if a slot is empty or invalid
+     */
+    private ToolPart[] readParts() {
+        ToolPart blade = ToolAssembly.readPart(inventory.get(BLADE_SLOT), ToolPartItem.BLADE);
+        ToolPart handle = ToolAssembly.readPart(inventory.get(HANDLE_SLOT), ToolPartItem.HANDLE);
+        ToolPart guard = ToolAssembly.readPart(inventory.get(GUARD_SLOT), ToolPartItem.GUARD);
+        if (blade == null || handle == null || guard == null) {
+            return null;
+        }
+        return new ToolPart[] { blade, handle, guard };
+    }
+
+    // === PUBLIC METHODS ===
+
+    /**
+     * Slot a part belongs in, or -1 if the stack is not a tool part.
+     */
+    public static int slotFor(ItemStack stack) {
+        if (!(stack.getItem() instanceof ToolPartItem part)) {
+            return -1;
+        }
+        return switch (part.getPartType()) {
+            case ToolPartItem.BLADE -> BLADE_SLOT;
+            case ToolPartItem.HANDLE -> HANDLE_SLOT;
+            case ToolPartItem.GUARD -> GUARD_SLOT;
+            default -> -1;
+        };
+    }
+
+    /**
+     * Whether a computation is in flight. Parts can't be taken out meanwhile.
+     */
+    public boolean isPending() {
+        return pending;
+    }
+}
@@ -0,0 +1,418 @@
+package com.bloodforged.block.entity;
+
+import com.bloodforged.BloodForged;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.BlockEntityTicker;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.text.Text;
+import net.minecraft.util.Uuids;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Density governor for ticking BloodForged block entities.
+ *
+ * CONCEPT:
+ * Nothing stops a player from packing a chunk with thousands of forges. Rather
+ * than refusing or deleting builds, the governor counts ticking block entities
+ * per chunk and per owner (the player who placed them):
+ * - Soft limit: the chunk is logged once and the placing player is warned
+ * - Hard limit: entities past the limit (in join order) are THROTTLED - they
+ *   tick once every THROTTLE_INTERVAL ticks and catch up on the elapsed time
+ *   in that one call, so they still work, just in coarser steps
+ * A block entity is throttled if it is past the hard limit in its chunk OR
+ * among its owner's. Breaking blocks below the limit un-throttles the next in line.
+ *
+ * SCOPE:
+ * Chunk counts are per world (one governor per ServerWorld). Owner counts are
+ * server-wide: a player's machines in the Overworld, Nether and End all count
+ * against the same player limits.
+ *
+ * BOOKKEEPING:
+ * - Governed block entities join in setWorld and leave in markRemoved, same as
+ *   OreLines and SmithySpatialIndex; the owner is set when the block is placed
+ * - Throttled entities are staggered by position, so they don't all run on
+ *   the same tick
+ * - Ore machines are not governed: OreLines already ticks them per line
+ *
+ * CONFIGURATION (JVM system properties):
+ * -Dbloodforged.density.chunkSoft=N    per-chunk soft limit (default 64)
+ * -Dbloodforged.density.chunkHard=N    per-chunk hard limit (default 256)
+ * -Dbloodforged.density.playerSoft=N   per-player soft limit, all worlds together (default 512)
+ * -Dbloodforged.density.playerHard=N   per-player hard limit, all worlds together (default 2048)
+ *
+ * Server thread only.
+ */
+public final class DensityGovernor {
+
+    public static final int CHUNK_SOFT_LIMIT = Integer.getInteger("bloodforged.density.chunkSoft", 64);
+    public static final int CHUNK_HARD_LIMIT = Integer.getInteger("bloodforged.density.chunkHard", 256);
+    public static final int PLAYER_SOFT_LIMIT = Integer.getInteger("bloodforged.density.playerSoft", 512);
+    public static final int PLAYER_HARD_LIMIT = Integer.getInteger("bloodforged.density.playerHard", 2048);
+
+    /**
+     * Ticks between updates of a throttled block entity.
+     */
+    public static final int THROTTLE_INTERVAL = 20;
+
+    private static final Map<ServerWorld, DensityGovernor> WORLDS = new IdentityHashMap<>();
+
+    private final ServerWorld world;
+
+    // Chunk -> members
+    private final Long2ObjectOpenHashMap<Group> chunks = new Long2ObjectOpenHashMap<>();
+
+    // Owner -> members, across every world
+    private static final Map<UUID, Group> OWNERS = new HashMap<>();
+
+    // Chunks already logged for reaching the soft limit (counts are rebuilt on every load)
+    private final LongOpenHashSet warnedChunks = new LongOpenHashSet();
+
+    private DensityGovernor(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static DensityGovernor get(ServerWorld world) {
+        return WORLDS.computeIfAbsent(world, DensityGovernor::new);
+    }
+
+    /**
+     * Forget a world's counts, including its share of every owner's count.
+     * Registered on world unload.
+     */
+    public static void unload(ServerWorld world) {
+        WORLDS.remove(world);
+        OWNERS.values().removeIf(group -> {
+            group.removeWorld(world);
+            return group.size() == 0;
+        });
+    }
+
+    /**
+     * Every world's governor (for the hotspots command).
+     */
+    public static Iterable<DensityGovernor> all() {
+        return WORLDS.values();
+    }
+
+    // === GOVERNED BLOCK ENTITIES ===
+
+    /**
+     * A block entity the governor counts and may throttle.
+     */
+    public interface Governed {
+        Ticket getTicket();
+    }
+
+    /**
+     * Tick logic that can advance several ticks in one call.
+     * With elapsed = 1 it must behave exactly like a normal tick.
+     */
+    @FunctionalInterface
+    public interface CatchUpTicker<T extends BlockEntity> {
+        void tick(World world, BlockPos pos, BlockState state, T blockEntity, int elapsed);
+    }
+
+    /**
+     * Per-block-entity governor state. The owner is saved with the block entity
+     * (writeNbt / readNbt); the rest is recomputed when it joins.
+     */
+    public static final class Ticket {
+        @Nullable
+        private UUID owner;
+        private boolean chunkExcess;
+        private boolean playerExcess;
+        private long lastTick = -1;
+        private int phase;
+
+        @Nullable
+        public UUID getOwner() {
+            return owner;
+        }
+
+        public boolean isThrottled() {
+            return chunkExcess || playerExcess;
+        }
+
+        public void writeNbt(NbtCompound nbt) {
+            if (owner != null) {
+                nbt.put("owner", Uuids.INT_STREAM_CODEC, owner);
+            }
+        }
+
+        public void readNbt(NbtCompound nbt) {
+            owner = nbt.get("owner", Uuids.INT_STREAM_CODEC).orElse(null);
+        }
+    }
+
+    /**
+     * Wrap a block entity's tick logic in the governor's throttle.
+     *
+     * Unthrottled: runs every tick with elapsed = 1.
+     * Throttled: runs once per THROTTLE_INTERVAL (on its own phase), with the
+     * ticks since its last run as elapsed - capped at the interval, so time the
+     * chunk didn't tick at all is not made up, same as vanilla.
+     */
+    public static <T extends BlockEntity & Governed> BlockEntityTicker<T> ticker(CatchUpTicker<T> ticker) {
+        return (world, pos, state, blockEntity) -> {
+            Ticket ticket = blockEntity.getTicket();
+            long time = world.getTime();
+            if (!ticket.isThrottled()) {
+                ticket.lastTick = time;
+                ticker.tick(world, pos, state, blockEntity, 1);
+                return;
+            }
+
+            if ((time + ticket.phase) % THROTTLE_INTERVAL != 0) {
+                return;
+            }
+            long elapsed = ticket.lastTick < 0 ? 1 : Math.min(time - ticket.lastTick, THROTTLE_INTERVAL);
+            ticket.lastTick = time;
+            if (elapsed > 0) {
+                ticker.tick(world, pos, state, blockEntity, (int) elapsed);
+            }
+        };
+    }
+
+    // === MEMBERSHIP ===
+
+    /**
+     * Count a block entity that was added to the world.
+     */
+    public void add(BlockEntity blockEntity) {
+        if (!(blockEntity instanceof Governed governed)) {
+            return;
+        }
+        Ticket ticket = governed.getTicket();
+        ticket.phase = (int) Math.floorMod(HashCommon.mix(blockEntity.getPos().asLong()), (long) THROTTLE_INTERVAL);
+
+        long chunk = ChunkPos.toLong(blockEntity.getPos());
+        Group group = chunks.computeIfAbsent(chunk, key -> new Group(CHUNK_HARD_LIMIT, true));
+        if (group.add(blockEntity) && group.size() >= CHUNK_SOFT_LIMIT && warnedChunks.add(chunk)) {
+            ChunkPos pos = new ChunkPos(chunk);
+            BloodForged.LOGGER.warn("Chunk [{}, {}] in {} has {} ticking BloodForged block entities (soft limit)",
+                    pos.x, pos.z, world.getRegistryKey().getValue(), CHUNK_SOFT_LIMIT);
+        }
+
+        if (ticket.owner != null) {
+            OWNERS.computeIfAbsent(ticket.owner, key -> new Group(PLAYER_HARD_LIMIT, false)).add(blockEntity);
+        }
+    }
+
+    /**
+     * Stop counting a block entity that left the world (broken or unloaded).
+     */
+    public void remove(BlockEntity blockEntity) {
+        if (!(blockEntity instanceof Governed governed)) {
+            return;
+        }
+        Ticket ticket = governed.getTicket();
+
+        long chunk = ChunkPos.toLong(blockEntity.getPos());
+        Group group = chunks.get(chunk);
+        if (group != null && group.remove(blockEntity) && group.size() == 0) {
+            chunks.remove(chunk);
+        }
+
+        if (ticket.owner != null) {
+            Group owned = OWNERS.get(ticket.owner);
+            if (owned != null && owned.remove(blockEntity) && owned.size() == 0) {
+                OWNERS.remove(ticket.owner);
+            }
+        }
+
+        ticket.chunkExcess = false;
+        ticket.playerExcess = false;
+    }
+
+    /**
+     * A player placed a governed block. Records the owner and warns the player
+     * if the chunk or their own count is over a limit.
+     * Called from the blocks' onPlaced.
+     */
+    public static void onPlaced(World world, BlockPos pos, @Nullable LivingEntity placer) {
+        if (!(world instanceof ServerWorld serverWorld) || !(placer instanceof ServerPlayerEntity player)
+                || !(world.getBlockEntity(pos) instanceof Governed governed)) {
+            return;
+        }
+
+        DensityGovernor governor = get(serverWorld);
+        BlockEntity blockEntity = (BlockEntity) governed;
+
+        // Re-join under the new owner
+        governor.remove(blockEntity);
+        governed.getTicket().owner = player.getUuid();
+        governor.add(blockEntity);
+
+        int inChunk = governor.chunkCount(ChunkPos.toLong(pos));
+        int owned = playerCount(player.getUuid());
+        if (inChunk > CHUNK_HARD_LIMIT || owned > PLAYER_HARD_LIMIT) {
+            player.sendMessage(Text.translatable("message.bloodforged.density.throttled",
+                    inChunk, CHUNK_HARD_LIMIT, owned, PLAYER_HARD_LIMIT), true);
+        } else if (inChunk >= CHUNK_SOFT_LIMIT || owned >= PLAYER_SOFT_LIMIT) {
+            player.sendMessage(Text.translatable("message.bloodforged.density.warning",
+                    inChunk, CHUNK_SOFT_LIMIT, owned, PLAYER_SOFT_LIMIT), true);
+        }
+    }
+
+    // === QUERIES ===
+
+    public int chunkCount(long chunk) {
+        Group group = chunks.get(chunk);
+        return group != null ? group.size() : 0;
+    }
+
+    /**
+     * Governed block entities a player owns, in every world.
+     */
+    public static int playerCount(UUID player) {
+        Group group = OWNERS.get(player);
+        return group != null ? group.size() : 0;
+    }
+
+    public ServerWorld getWorld() {
+        return world;
+    }
+
+    /**
+     * Chunks with at least minCount governed block entities.
+     */
+    public List<Hotspot> chunkHotspots(int minCount) {
+        List<Hotspot> hotspots = new ArrayList<>();
+        for (var entry : chunks.long2ObjectEntrySet()) {
+            int count = entry.getValue().size();
+            if (count >= minCount) {
+                hotspots.add(new Hotspot(world, new ChunkPos(entry.getLongKey()), null, count,
+                        Math.max(0, count - CHUNK_HARD_LIMIT)));
+            }
+        }
+        return hotspots;
+    }
+
+    /**
+     * Owners with at least minCount governed block entities, all worlds together.
+     */
+    public static List<Hotspot> playerHotspots(int minCount) {
+        List<Hotspot> hotspots = new ArrayList<>();
+        for (Map.Entry<UUID, Group> entry : OWNERS.entrySet()) {
+            int count = entry.getValue().size();
+            if (count >= minCount) {
+                hotspots.add(new Hotspot(null, null, entry.getKey(), count,
+                        Math.max(0, count - PLAYER_HARD_LIMIT)));
+            }
+        }
+        return hotspots;
+    }
+
+    /**
+     * One row of /bloodforged hotspots: a chunk or an owner.
+     *
+     * @param world     The chunk's world (null for owners, who span every world)
+     * @param throttled How many of its block entities are past the hard limit
+     */
+    public record Hotspot(@Nullable ServerWorld world, @Nullable ChunkPos chunk, @Nullable UUID player, int count, int throttled) {
+    }
+
+    // === GROUP ===
+
+    /**
+     * Members of one chunk or one owner. The first `limit` to join are active;
+     * everyone after that is excess, queued in join order. Removing an active
+     * member promotes the oldest excess one. Every operation is O(1), so
+     * unloading an area full of one player's machines stays linear.
+     */
+    private static final class Group {
+        final int limit;
+        final boolean chunk;
+        final ReferenceOpenHashSet<BlockEntity> active = new ReferenceOpenHashSet<>();
+        final ReferenceLinkedOpenHashSet<BlockEntity> excess = new ReferenceLinkedOpenHashSet<>();
+
+        Group(int limit, boolean chunk) {
+            this.limit = limit;
+            this.chunk = chunk;
+        }
+
+        int size() {
+            return active.size() + excess.size();
+        }
+
+        /**
+         * @return false if it was already a member (setWorld twice in a row)
+         */
+        boolean add(BlockEntity blockEntity) {
+            if (active.contains(blockEntity) || excess.contains(blockEntity)) {
+                return false;
+            }
+            if (active.size() < limit) {
+                active.add(blockEntity);
+                setExcess(blockEntity, false);
+            } else {
+                excess.add(blockEntity);
+                setExcess(blockEntity, true);
+            }
+            return true;
+        }
+
+        boolean remove(BlockEntity blockEntity) {
+            if (excess.remove(blockEntity)) {
+                return true;
+            }
+            if (!active.remove(blockEntity)) {
+                return false;
+            }
+            if (!excess.isEmpty()) {
+                BlockEntity promoted = excess.removeFirst();
+                active.add(promoted);
+                setExcess(promoted, false);
+            }
+            return true;
+        }
+
+        /**
+         * Drop every member that lives in a world being unloaded.
+         */
+        void removeWorld(ServerWorld world) {
+            List<BlockEntity> leaving = new ArrayList<>();
+            for (BlockEntity blockEntity : active) {
+                if (blockEntity.getWorld() == world) {
+                    leaving.add(blockEntity);
+                }
+            }
+            for (BlockEntity blockEntity : excess) {
+                if (blockEntity.getWorld() == world) {
+                    leaving.add(blockEntity);
+                }
+            }
+            for (BlockEntity blockEntity : leaving) {
+                remove(blockEntity);
+            }
+        }
+
+        private void setExcess(BlockEntity blockEntity, boolean excess) {
+            Ticket ticket = ((Governed) blockEntity).getTicket();
+            if (chunk) {
+                ticket.chunkExcess = excess;
+            } else {
+                ticket.playerExcess = excess;
+            }
+        }
+    }
+}
@@ -1,15 +1,31 @@
 package com.bloodforged.block.entity;
 
 import com.bloodforged.component.ModDataComponents;
+import com.bloodforged.material.ItemClassification;
+import com.bloodforged.material.Material;
+import com.bloodforged.material.MaterialRegistry;
+import com.bloodforged.material.MaterialSnapshot;
+import com.bloodforged.recipe.ForgingRecipe;
+import com.bloodforged.recipe.ModRecipes;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.inventory.Inventories;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.ItemScatterer;
 import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
 
 /**
  * ForgeBlockEntity - Heats metal to working temperature.
@@ -20,20 +36,44 @@ import net.minecraft.world.World;
  * - Right-click to insert/remove items
  * 
  * INVENTORY SLOTS:
- * [0] ITEM - Metal to be heated
+ * [0] ITEM - Metal to be heated (a whole stack of the same metal)
  * [1] FUEL - Coal, charcoal, etc. (future feature)
  * 
  * HEATING MECHANICS:
- * - Item heats at constant rate
+ * - The stack heats as ONE thermal mass: mass = count * material density
+ * - Every item draws ITEM_POWER, up to FORGE_POWER for the whole forge:
+ *   degrees per tick = min(count * ITEM_POWER, FORGE_POWER) / mass
+ *   Up to 16 bronze ingots (density 7) heat at 1°C per tick, like a single
+ *   one; a full stack of 64 heats at a quarter of that, so one forge with a
+ *   full stack turns out 16x the hot metal of a one-item forge
+ * - Fractions of a degree accumulate in heatBuffer, nothing is lost to rounding
+ * - Adding metal to a hot stack averages the temperature by item count
  * - Stops at max temperature (1400°C)
  * - Fuel is consumed (future)
  * - Visual: Block glows when active
+ * 
+ * FORGING:
+ * If a forging recipe matches the item at the current temperature
+ * (e.g. bronze dust at 900°C), the item is replaced by the recipe result,
+ * which keeps heating from the same temperature.
+ * 
+ * AUTOMATION (hoppers, pipes - see MachineItemStorage):
+ * - Top:    metal in (stacks with identical metal)
+ * - Sides:  fuel in
+ * - Bottom: metal out, once it's at working temperature and done forging
+ * 
+ * COMPARATOR OUTPUT:
+ * - 0     empty
+ * - 1-15  item present, temperature quantized over 0-MAX_TEMPERATURE
+ * Cached; comparators are only notified when the level changes (about every
+ * 100°C), not on every degree.
  */
-public class ForgeBlockEntity extends BlockEntity implements ImplementedInventory {
+public class ForgeBlockEntity extends BlockEntity implements MachineItemStorage.ImplementedSidedInventory, DensityGovernor.Governed {
 
     // === INVENTORY ===
     
     private final DefaultedList<ItemStack> inventory = DefaultedList.ofSize(2, ItemStack.EMPTY);
+    private final InventoryRevisions revisions = new InventoryRevisions(2);
     
     // === STATE ===
     
@@ -47,6 +87,33 @@ public class ForgeBlockEntity extends BlockEntity implements ImplementedInventor
      */
     private boolean isLit = false;
     
+    /**
+     * Fraction of a degree heated but not yet applied (0 to 1).
+     */
+    private float heatBuffer = 0.0f;
+    
+    /**
+     * Degrees per tick for the stack being heated, cached per (item, count).
+     */
+    private float heatRate = 0.0f;
+    private Item rateItem = null;
+    private int rateCount = 0;
+    
+    /**
+     * Last comparator level handed to neighbours (not saved - recomputed on load).
+     */
+    private int comparatorLevel = 0;
+    
+    /**
+     * Item slot revision the forging recipe was last checked for (not saved).
+     */
+    private int forgeCheckedRevision = -1;
+    
+    /**
+     * Owner and throttle state, see DensityGovernor.
+     */
+    private final DensityGovernor.Ticket ticket = new DensityGovernor.Ticket();
+    
     // === CONSTANTS ===
     
     /**
@@ -67,12 +134,48 @@ public class ForgeBlockEntity extends BlockEntity implements ImplementedInventor
      */
     private static final float HEATING_RATE = 20.0f; // 20°C per second
     
+    /**
+     * Heat each item draws per tick, in density * °C.
+     * Calibrated so that a single bronze ingot (density 7) heats at HEATING_RATE.
+     */
+    private static final float ITEM_POWER = 7.0f;
+    
+    /**
+     * Most heat the whole forge delivers per tick, shared by the stack.
+     * Up to 16 items heat as fast as one; bigger stacks share it and heat slower,
+     * but the forge's throughput still grows with the stack up to that point.
+     */
+    private static final float FORGE_POWER = 16 * ITEM_POWER;
+    
+    /**
+     * Density used when a stack's material can't be resolved.
+     */
+    private static final float DEFAULT_DENSITY = 7.0f;
+    
     /**
      * Slot indices.
      */
     public static final int ITEM_SLOT = 0;
     public static final int FUEL_SLOT = 1;
     
+    /**
+     * Temperature at which metal can be worked on the anvil.
+     * Automation only pulls items out of the forge from here on.
+     */
+    public static final int WORKING_TEMPERATURE = 800;
+    
+    private static final int[] TOP_SLOTS = { ITEM_SLOT };
+    private static final int[] BOTTOM_SLOTS = { ITEM_SLOT };
+    private static final int[] SIDE_SLOTS = { FUEL_SLOT };
+    
+    // === AUTOMATION ===
+    
+    /**
+     * Transfer API view. One dirty mark per transfer.
+     */
+    private final MachineItemStorage itemStorage =
+            new MachineItemStorage(this, slot -> 64, this::onStorageCommit);
+    
     // === CONSTRUCTOR ===
     
     public ForgeBlockEntity(BlockPos pos, BlockState state) {
@@ -86,6 +189,58 @@ public class ForgeBlockEntity extends BlockEntity implements ImplementedInventor
         return inventory;
     }
     
+    @Override
+    public InventoryRevisions getRevisions() {
+        return revisions;
+    }
+    
+    // === SIDED INVENTORY ===
+    
+    @Override
+    public int[] getAvailableSlots(Direction side) {
+        return switch (side) {
+            case UP -> TOP_SLOTS;
+            case DOWN -> BOTTOM_SLOTS;
+            default -> SIDE_SLOTS;
+        };
+    }
+    
+    @Override
+    public boolean canInsert(int slot, ItemStack stack, @Nullable Direction side) {
+        if (slot == ITEM_SLOT) {
+            ItemStack current = inventory.get(ITEM_SLOT);
+            return side != Direction.DOWN && (current.isEmpty() || isSameMetal(current, stack)) && isForgeable(stack);
+        }
+        return side != Direction.UP && side != Direction.DOWN
+                && world != null && world.getFuelRegistry().isFuel(stack);
+    }
+    
+    @Override
+    public boolean canExtract(int slot, ItemStack stack, Direction side) {
+        return slot == ITEM_SLOT && side != Direction.UP && isReady(stack);
+    }
+    
+    /**
+     * Item storage for one side (registered with ItemStorage.SIDED).
+     */
+    public Storage<ItemVariant> getItemStorage(@Nullable Direction side) {
+        return itemStorage.get(side);
+    }
+    
+    /**
+     * End of a committed transfer. Metal piped into an empty forge brings its
+     * temperature along (pipes only merge identical stacks, so no averaging).
+     */
+    private void onStorageCommit() {
+        if (temperature == 0) {
+            Integer temp = inventory.get(ITEM_SLOT).get(ModDataComponents.TEMPERATURE);
+            if (temp != null) {
+                temperature = temp;
+            }
+        }
+        markDirty();
+    }
+    
     // === NBT SERIALIZATION ===
     
     @Override
@@ -94,6 +249,8 @@ public class ForgeBlockEntity extends BlockEntity implements ImplementedInventor
         Inventories.writeNbt(nbt, inventory, registryLookup);
         nbt.putInt("temperature", temperature);
         nbt.putBoolean("isLit", isLit);
+        nbt.putFloat("heatBuffer", heatBuffer);
+        ticket.writeNbt(nbt);
     }
 
     @Override
@@ -103,45 +260,288 @@ public class ForgeBlockEntity extends BlockEntity implements ImplementedInventor
 
         temperature = nbt.getInt("temperature").orElse(0);
         isLit = nbt.getBoolean("isLit").orElse(false);
+        heatBuffer = nbt.getFloat("heatBuffer").orElse(0.0f);
+        ticket.readNbt(nbt);
+        rateItem = null;
+        revisions.bumpAll();
+        comparatorLevel = computeComparatorLevel();
+    }
+    
+    // === SPATIAL INDEX / DENSITY ===
+    
+    /**
+     * Placed or chunk loaded: join the world's SmithySpatialIndex and DensityGovernor.
+     */
+    @Override
+    public void setWorld(World world) {
+        super.setWorld(world);
+        if (world instanceof ServerWorld serverWorld) {
+            SmithySpatialIndex.get(serverWorld).forges().add(this);
+            DensityGovernor.get(serverWorld).add(this);
+        }
+    }
+    
+    /**
+     * Broken or chunk unloaded: leave both.
+     */
+    @Override
+    public void markRemoved() {
+        super.markRemoved();
+        if (world instanceof ServerWorld serverWorld) {
+            SmithySpatialIndex.get(serverWorld).forges().remove(this);
+            DensityGovernor.get(serverWorld).remove(this);
+        }
+    }
+    
+    @Override
+    public DensityGovernor.Ticket getTicket() {
+        return ticket;
+    }
+    
+    // === DIRTY TRACKING ===
+    
+    /**
+     * Mark for saving without the vanilla comparator update on every call:
+     * neighbours only hear about it when the comparator level changes.
+     */
+    @Override
+    public void markDirty() {
+        if (world == null) {
+            return;
+        }
+        world.markDirty(pos);
+        
+        int level = computeComparatorLevel();
+        if (level != comparatorLevel) {
+            comparatorLevel = level;
+            world.updateComparators(pos, getCachedState().getBlock());
+        }
+    }
+    
+    private int computeComparatorLevel() {
+        if (inventory.get(ITEM_SLOT).isEmpty()) {
+            return 0;
+        }
+        return 1 + Math.min(temperature, MAX_TEMPERATURE) * 14 / MAX_TEMPERATURE;
     }
     
     // === TICKING LOGIC ===
     
     /**
-     * Tick - heat item over time.
+     * Tick - heat the stack over time.
+     * 
+     * @param elapsed Ticks to advance (more than 1 when throttled, see DensityGovernor)
      */
-    public static void tick(World world, BlockPos pos, BlockState state, ForgeBlockEntity blockEntity) {
+    public static void tick(World world, BlockPos pos, BlockState state, ForgeBlockEntity blockEntity, int elapsed) {
         if (world.isClient) {
             return;
         }
         
         ItemStack itemStack = blockEntity.inventory.get(ITEM_SLOT);
 
+        // Items inserted by automation light the forge just like a player does
+        if (!itemStack.isEmpty() && !blockEntity.isLit) {
+            blockEntity.isLit = true;
+        }
+
         // If has item and is lit, heat it
         if (!itemStack.isEmpty() && blockEntity.isLit) {
-            // Heat up - increase by 1 degree per tick (20°C per second)
-            blockEntity.temperature += 1;
+            if (blockEntity.temperature < MAX_TEMPERATURE) {
+                // Heat up - the stack's share of the forge's power spread over its mass
+                blockEntity.heatBuffer += elapsed * blockEntity.heatRate(itemStack);
+                int degrees = (int) blockEntity.heatBuffer;
+                // Big stack: maybe not a whole degree yet
+                if (degrees > 0) {
+                    blockEntity.heatBuffer -= degrees;
+                    blockEntity.temperature = Math.min(blockEntity.temperature + degrees, MAX_TEMPERATURE);
 
-            // Cap at max
-            if (blockEntity.temperature > MAX_TEMPERATURE) {
-                blockEntity.temperature = MAX_TEMPERATURE;
+                    // Apply temperature to item (in place, so bump the slot by hand)
+                    itemStack.set(ModDataComponents.TEMPERATURE, blockEntity.temperature);
+                    blockEntity.revisions.bump(ITEM_SLOT);
+                    blockEntity.markDirty();
+                }
             }
 
-            // Apply temperature to item
-            itemStack.set(ModDataComponents.TEMPERATURE, blockEntity.temperature);
-
-            blockEntity.markDirty();
+            // Hot enough to forge? Checked whenever the stack or its temperature changed -
+            // also at max temperature, so metal inserted already hot still forges.
+            // One index lookup, no allocation unless it matches
+            int revision = blockEntity.revisions.get(ITEM_SLOT);
+            if (revision != blockEntity.forgeCheckedRevision) {
+                blockEntity.forgeCheckedRevision = revision;
+                ForgingRecipe recipe = ModRecipes.FORGING_INDEX.find(itemStack, blockEntity.temperature, false);
+                if (recipe != null) {
+                    itemStack = blockEntity.forge(world, pos, itemStack, recipe);
+                    itemStack.set(ModDataComponents.TEMPERATURE, blockEntity.temperature);
+                    // Bumped after the check: the result is checked next tick (chained recipes)
+                    blockEntity.revisions.bump(ITEM_SLOT);
+                    blockEntity.markDirty();
+                }
+            }
         }
         
         // If no item, reset
-        if (itemStack.isEmpty()) {
+        if (itemStack.isEmpty() && (blockEntity.temperature != 0 || blockEntity.isLit)) {
             blockEntity.temperature = 0;
+            blockEntity.heatBuffer = 0.0f;
             blockEntity.isLit = false;
+            blockEntity.markDirty();
         }
     }
     
+    /**
+     * Replace the stack with its forging result - the whole stack forges at once.
+     * 
+     * A recipe may yield several items per input; whatever doesn't fit in the
+     * slot is dropped on top of the forge instead of being lost.
+     * 
+     * @return The result now in the slot
+     */
+    private ItemStack forge(World world, BlockPos pos, ItemStack input, ForgingRecipe recipe) {
+        int count = input.getCount();
+        ItemStack result = recipe.craft(input, false);
+        int total = result.getCount() * count;
+        int kept = Math.min(total, result.getMaxCount());
+        
+        result.setCount(kept);
+        inventory.set(ITEM_SLOT, result);
+        if (total > kept) {
+            ItemStack overflow = result.copyWithCount(total - kept);
+            overflow.set(ModDataComponents.TEMPERATURE, temperature);
+            ItemScatterer.spawn(world, pos.getX() + 0.5, pos.getY() + 1.0, pos.getZ() + 0.5, overflow);
+        }
+        return result;
+    }
+    
+    /**
+     * Degrees per tick for a stack: min(count * ITEM_POWER, FORGE_POWER) over
+     * its thermal mass (count * density of its material).
+     * Resolved only when the item or count changes.
+     */
+    private float heatRate(ItemStack stack) {
+        if (stack.getItem() != rateItem || stack.getCount() != rateCount) {
+            rateItem = stack.getItem();
+            rateCount = stack.getCount();
+            float power = Math.min(rateCount * ITEM_POWER, FORGE_POWER);
+            heatRate = power / Math.max(1.0f, rateCount * density(stack));
+        }
+        return heatRate;
+    }
+    
+    private static float density(ItemStack stack) {
+        MaterialSnapshot snapshot = MaterialRegistry.INSTANCE.snapshot(false);
+        ItemClassification classification = snapshot.classify(stack);
+        if (classification != null) {
+            return classification.getMaterial().getProperties().getDensity();
+        }
+        
+        String materialId = stack.get(ModDataComponents.MATERIAL);
+        Identifier id = materialId != null ? Identifier.tryParse(materialId) : null;
+        Material material = id != null ? snapshot.getMaterial(id) : null;
+        return material != null ? material.getProperties().getDensity() : DEFAULT_DENSITY;
+    }
+    
     // === PUBLIC METHODS ===
     
+    /**
+     * Check if an item can be heated in the forge.
+     * 
+     * Only metal goes in: anything linked to a material (ingots, dust, raw ore),
+     * or a tool part that already carries a material.
+     * 
+     * @param isClient Which side's material snapshot to use (usually world.isClient)
+     */
+    public static boolean canHeat(ItemStack stack, boolean isClient) {
+        return MaterialRegistry.INSTANCE.snapshot(isClient).classify(stack) != null
+                || stack.contains(ModDataComponents.MATERIAL);
+    }
+    
+    /**
+     * Check if an item can go into the forge: heatable metal, or the input
+     * of a forging recipe. Server side only (recipes are indexed on the server).
+     */
+    public static boolean isForgeable(ItemStack stack) {
+        return canHeat(stack, false) || ModRecipes.FORGING_INDEX.hasRecipe(stack, false);
+    }
+    
+    /**
+     * Check if heated metal is ready to leave the forge: at working temperature,
+     * and no forging recipe still waiting to turn it into something else.
+     */
+    public static boolean isReady(ItemStack stack) {
+        Integer temp = stack.get(ModDataComponents.TEMPERATURE);
+        return temp != null && temp >= WORKING_TEMPERATURE && !ModRecipes.FORGING_INDEX.hasRecipe(stack, false);
+    }
+    
+    /**
+     * Check if two stacks are the same metal and can share the forge:
+     * same item, material and quality. Temperature is allowed to differ.
+     */
+    public static boolean isSameMetal(ItemStack a, ItemStack b) {
+        return a.isOf(b.getItem())
+                && Objects.equals(a.get(ModDataComponents.MATERIAL), b.get(ModDataComponents.MATERIAL))
+                && Objects.equals(a.get(ModDataComponents.QUALITY), b.get(ModDataComponents.QUALITY));
+    }
+    
+    /**
+     * Put metal from a player's hand into the forge.
+     * 
+     * Fills an empty forge or tops up a stack of the same metal; the stack's
+     * temperature becomes the count-weighted average of both.
+     * 
+     * @param stack Stack to take from (shrunk by the amount inserted)
+     * @return Number of items inserted
+     */
+    public int insertMetal(ItemStack stack) {
+        ItemStack current = inventory.get(ITEM_SLOT);
+        if (!isForgeable(stack) || (!current.isEmpty() && !isSameMetal(current, stack))) {
+            return 0;
+        }
+        
+        int space = current.isEmpty() ? stack.getMaxCount() : current.getMaxCount() - current.getCount();
+        int moved = Math.min(space, stack.getCount());
+        if (moved <= 0) {
+            return 0;
+        }
+        
+        Integer incomingTemp = stack.get(ModDataComponents.TEMPERATURE);
+        int incoming = incomingTemp != null ? incomingTemp : 0;
+        
+        if (current.isEmpty()) {
+            temperature = incoming;
+            heatBuffer = 0.0f;
+            setStack(ITEM_SLOT, stack.split(moved));
+        } else {
+            int existing = current.getCount();
+            temperature = (temperature * existing + incoming * moved) / (existing + moved);
+            current.increment(moved);
+            stack.decrement(moved);
+            current.set(ModDataComponents.TEMPERATURE, temperature);
+            bumpRevision(ITEM_SLOT);
+        }
+        
+        light();
+        return moved;
+    }
+    
+    /**
+     * Take hot metal out of the forge.
+     * 
+     * @param all Whole stack (true) or a single item (false)
+     * @return The items taken (empty if the forge is empty)
+     */
+    public ItemStack takeMetal(boolean all) {
+        ItemStack current = inventory.get(ITEM_SLOT);
+        if (current.isEmpty()) {
+            return ItemStack.EMPTY;
+        }
+        
+        ItemStack taken = removeStack(ITEM_SLOT, all ? current.getCount() : 1);
+        if (inventory.get(ITEM_SLOT).isEmpty()) {
+            extinguish();
+        }
+        return taken;
+    }
+    
     /**
      * Light the forge (or it could auto-light when item inserted).
      */
@@ -165,6 +565,13 @@ public class ForgeBlockEntity extends BlockEntity implements ImplementedInventor
         return temperature;
     }
     
+    /**
+     * Current comparator level (0-15), from cached state.
+     */
+    public int getComparatorLevel() {
+        return comparatorLevel;
+    }
+    
     /**
      * Check if lit.
      */
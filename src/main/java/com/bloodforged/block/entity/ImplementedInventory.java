@@ -5,6 +5,7 @@ import net.minecraft.inventory.Inventories;
 import net.minecraft.inventory.Inventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.collection.DefaultedList;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Helper interface that implements common Inventory methods.
@@ -30,6 +31,10 @@ import net.minecraft.util.collection.DefaultedList;
  *   }
  * 
  * This pattern is commonly used in Fabric mods to reduce boilerplate.
+ * 
+ * CHANGE TRACKING (optional):
+ * Also override getRevisions() to get per-slot modification counters,
+ * bumped by setStack, removeStack and clear. See InventoryRevisions.
  */
 public interface ImplementedInventory extends Inventory {
 
@@ -39,6 +44,26 @@ public interface ImplementedInventory extends Inventory {
      */
     DefaultedList<ItemStack> getItems();
 
+    /**
+     * Per-slot modification counters, or null if this inventory doesn't track changes.
+     * Override to return a field sized like getItems().
+     */
+    @Nullable
+    default InventoryRevisions getRevisions() {
+        return null;
+    }
+
+    /**
+     * Bump the revision of a slot, if this inventory tracks changes.
+     * Call after writing to getItems() directly or mutating a stack in place.
+     */
+    default void bumpRevision(int slot) {
+        InventoryRevisions revisions = getRevisions();
+        if (revisions != null) {
+            revisions.bump(slot);
+        }
+    }
+
     /**
      * Get item from slot.
      * 
@@ -68,6 +93,7 @@ public interface ImplementedInventory extends Inventory {
         
         // If something changed, mark dirty
         if (!result.isEmpty()) {
+            bumpRevision(slot);
             markDirty();
         }
         
@@ -82,7 +108,11 @@ public interface ImplementedInventory extends Inventory {
      */
     @Override
     default ItemStack removeStack(int slot) {
-        return Inventories.removeStack(getItems(), slot);
+        ItemStack result = Inventories.removeStack(getItems(), slot);
+        if (!result.isEmpty()) {
+            bumpRevision(slot);
+        }
+        return result;
     }
 
     /**
@@ -105,6 +135,7 @@ public interface ImplementedInventory extends Inventory {
             stack.setCount(getMaxCount(stack));
         }
         
+        bumpRevision(slot);
         markDirty();
     }
 
@@ -140,6 +171,11 @@ public interface ImplementedInventory extends Inventory {
     @Override
     default void clear() {
         getItems().clear();
+
+        InventoryRevisions revisions = getRevisions();
+        if (revisions != null) {
+            revisions.bumpAll();
+        }
     }
 
     /**
@@ -0,0 +1,92 @@
+package com.bloodforged.block.entity;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Per-slot modification counters for an ImplementedInventory.
+ *
+ * WHY:
+ * Ticks, comparators and GUI sync all want to know "did this inventory change
+ * since I last looked?". Without counters the only answer is to re-read and
+ * re-compare every stack. With them it's one int comparison:
+ *
+ *   int seen = revisions.total();
+ *   ...
+ *   if (revisions.total() == seen) return; // nothing changed
+ *
+ * RULES:
+ * - setStack, removeStack (when something was removed) and clear bump the counters
+ *   (ImplementedInventory does this for you)
+ * - Code that writes to getItems() directly or mutates a stack in place must call
+ *   bump(slot) itself
+ * - Counters are NOT saved: they only compare observations made in this session
+ * - A bump means "may have changed", never "definitely changed"
+ *
+ * The optional listener is called after every bump, on the thread that made
+ * the change (server thread for block entities).
+ */
+public final class InventoryRevisions {
+
+    /**
+     * Notified after a slot's revision was bumped.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onSlotChanged(int slot, int revision);
+    }
+
+    private final int[] slots;
+    private int total;
+
+    @Nullable
+    private Listener listener;
+
+    public InventoryRevisions(int size) {
+        this.slots = new int[size];
+    }
+
+    // === BUMPING ===
+
+    /**
+     * Record a change to one slot.
+     */
+    public void bump(int slot) {
+        int revision = ++slots[slot];
+        total++;
+        if (listener != null) {
+            listener.onSlotChanged(slot, revision);
+        }
+    }
+
+    /**
+     * Record a change to every slot (clear, load from NBT).
+     */
+    public void bumpAll() {
+        for (int slot = 0; slot < slots.length; slot++) {
+            bump(slot);
+        }
+    }
+
+    // === READING ===
+
+    /**
+     * Revision of one slot. Changes whenever the slot does.
+     */
+    public int get(int slot) {
+        return slots[slot];
+    }
+
+    /**
+     * Revision of the whole inventory. Changes whenever any slot does.
+     */
+    public int total() {
+        return total;
+    }
+
+    /**
+     * Set (or remove, with null) the change listener. One listener per inventory.
+     */
+    public void setListener(@Nullable Listener listener) {
+        this.listener = listener;
+    }
+}
@@ -0,0 +1,180 @@
+package com.bloodforged.block.entity;
+
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.fabricmc.fabric.api.transfer.v1.item.base.SingleStackStorage;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.CombinedStorage;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import net.fabricmc.fabric.api.transfer.v1.transaction.base.SnapshotParticipant;
+import net.minecraft.inventory.SidedInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.Direction;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Fabric Transfer API view of a machine inventory (forge, anvil).
+ *
+ * WHY:
+ * Hoppers and pipe mods going through the vanilla Inventory contract move one
+ * item per call, and every setStack/removeStack marks the block entity dirty
+ * (world save flag + comparator updates). A pipe moving a stack of 64 did that
+ * 64 times per transfer.
+ *
+ * HOW:
+ * - Each side gets its own Storage, built from the inventory's SidedInventory
+ *   rules (getAvailableSlots / canInsert / canExtract) - same rules hoppers see
+ * - Slot views write straight into getItems(), bypassing setStack/markDirty;
+ *   slot revisions are bumped on commit, never for rolled-back changes
+ * - One shared SnapshotParticipant joins every transaction that moves items in
+ *   or out of the machine; only its final commit calls onCommit - so ONE dirty mark and
+ *   notification per committed transaction, however many slots and items moved
+ * - Aborted transactions roll the stacks back and never mark anything
+ *
+ * USAGE:
+ *   private final MachineItemStorage storage = new MachineItemStorage(this, slot -> 64, this::markDirty);
+ *   ItemStorage.SIDED.registerForBlockEntity((be, side) -> be.getItemStorage(side), TYPE);
+ */
+public class MachineItemStorage {
+
+    private final ImplementedSidedInventory inventory;
+    private final IntUnaryOperator slotLimits;
+    private final Runnable onCommit;
+
+    // Indexed by Direction.ordinal(); the last entry is the unsided (null) view
+    private final Storage<ItemVariant>[] sides;
+
+    private final SnapshotParticipant<Integer> commitMarker = new SnapshotParticipant<>() {
+        @Override
+        protected Integer createSnapshot() {
+            return 0; // Nothing to roll back: the slot views snapshot their own stacks
+        }
+
+        @Override
+        protected void readSnapshot(Integer snapshot) {
+        }
+
+        @Override
+        protected void onFinalCommit() {
+            onCommit.run();
+        }
+    };
+
+    /**
+     * Combined contract the storage needs: item list + side rules.
+     */
+    public interface ImplementedSidedInventory extends ImplementedInventory, SidedInventory {
+    }
+
+    /**
+     * @param inventory  Machine inventory with its side rules
+     * @param slotLimits Max stack size per slot (e.g. 1 for the forge's heating slot)
+     * @param onCommit   Called once per committed transaction that changed something
+     */
+    @SuppressWarnings("unchecked")
+    public MachineItemStorage(ImplementedSidedInventory inventory, IntUnaryOperator slotLimits, Runnable onCommit) {
+        this.inventory = inventory;
+        this.slotLimits = slotLimits;
+        this.onCommit = onCommit;
+
+        Direction[] directions = Direction.values();
+        this.sides = new Storage[directions.length + 1];
+        for (Direction side : directions) {
+            sides[side.ordinal()] = buildSide(side);
+        }
+        sides[directions.length] = buildSide(null);
+    }
+
+    /**
+     * Storage as seen from one side, or the unsided view for null.
+     */
+    public Storage<ItemVariant> get(@Nullable Direction side) {
+        return sides[side == null ? sides.length - 1 : side.ordinal()];
+    }
+
+    private Storage<ItemVariant> buildSide(@Nullable Direction side) {
+        int[] available = side == null ? allSlots() : inventory.getAvailableSlots(side);
+        List<SlotView> views = new ArrayList<>(available.length);
+        for (int slot : available) {
+            views.add(new SlotView(slot, side));
+        }
+        return new CombinedStorage<>(views);
+    }
+
+    private int[] allSlots() {
+        int[] slots = new int[inventory.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = i;
+        }
+        return slots;
+    }
+
+    // === SLOT VIEW ===
+
+    /**
+     * One slot as seen from one side.
+     */
+    private class SlotView extends SingleStackStorage {
+        private final int slot;
+        @Nullable
+        private final Direction side;
+
+        SlotView(int slot, @Nullable Direction side) {
+            this.slot = slot;
+            this.side = side;
+        }
+
+        @Override
+        protected ItemStack getStack() {
+            return inventory.getItems().get(slot);
+        }
+
+        @Override
+        protected void setStack(ItemStack stack) {
+            // Direct write: the dirty mark happens once, on commit
+            inventory.getItems().set(slot, stack);
+        }
+
+        @Override
+        protected boolean canInsert(ItemVariant variant) {
+            return inventory.canInsert(slot, variant.toStack(), side);
+        }
+
+        @Override
+        protected boolean canExtract(ItemVariant variant) {
+            return inventory.canExtract(slot, variant.toStack(), side);
+        }
+
+        @Override
+        protected int getCapacity(ItemVariant variant) {
+            return Math.min(slotLimits.applyAsInt(slot), variant.getItem().getMaxCount());
+        }
+
+        @Override
+        protected void onFinalCommit() {
+            super.onFinalCommit();
+            inventory.bumpRevision(slot);
+        }
+
+        @Override
+        public long insert(ItemVariant variant, long maxAmount, TransactionContext transaction) {
+            long moved = super.insert(variant, maxAmount, transaction);
+            if (moved > 0) {
+                commitMarker.updateSnapshots(transaction);
+            }
+            return moved;
+        }
+
+        @Override
+        public long extract(ItemVariant variant, long maxAmount, TransactionContext transaction) {
+            long moved = super.extract(variant, maxAmount, transaction);
+            if (moved > 0) {
+                commitMarker.updateSnapshots(transaction);
+            }
+            return moved;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.bloodforged.block.entity;
 import com.bloodforged.BloodForged;
 import com.bloodforged.block.ModBlocks;
 import net.fabricmc.fabric.api.object.builder.v1.block.entity.FabricBlockEntityTypeBuilder;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemStorage;
 import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.Registry;
@@ -54,14 +55,66 @@ public class ModBlockEntities {
                     ).build()
             );
 
+    /**
+     * Assembly Table Block Entity Type.
+     *
+     * Links AssemblyTableBlockEntity to AssemblyTableBlock.
+     */
+    public static final BlockEntityType<AssemblyTableBlockEntity> ASSEMBLY_TABLE_BLOCK_ENTITY =
+            Registry.register(
+                    Registries.BLOCK_ENTITY_TYPE,
+                    Identifier.of(BloodForged.MOD_ID, "assembly_table"),
+                    FabricBlockEntityTypeBuilder.create(
+                            AssemblyTableBlockEntity::new,
+                            ModBlocks.ASSEMBLY_TABLE
+                    ).build()
+            );
+
+    /**
+     * Open Furnace Block Entity Type.
+     *
+     * Links OpenFurnaceBlockEntity (the multiblock controller) to OpenFurnaceBlock.
+     */
+    public static final BlockEntityType<OpenFurnaceBlockEntity> OPEN_FURNACE_BLOCK_ENTITY =
+            Registry.register(
+                    Registries.BLOCK_ENTITY_TYPE,
+                    Identifier.of(BloodForged.MOD_ID, "open_furnace"),
+                    FabricBlockEntityTypeBuilder.create(
+                            OpenFurnaceBlockEntity::new,
+                            ModBlocks.OPEN_FURNACE
+                    ).build()
+            );
+
+    /**
+     * Ore Machine Block Entity Type.
+     *
+     * Shared by the crusher and the washer; the block decides the stage.
+     */
+    public static final BlockEntityType<OreMachineBlockEntity> ORE_MACHINE_BLOCK_ENTITY =
+            Registry.register(
+                    Registries.BLOCK_ENTITY_TYPE,
+                    Identifier.of(BloodForged.MOD_ID, "ore_machine"),
+                    FabricBlockEntityTypeBuilder.create(
+                            OreMachineBlockEntity::new,
+                            ModBlocks.CRUSHER,
+                            ModBlocks.WASHER
+                    ).build()
+            );
+
     /**
      * Register all block entities.
      * Called during mod initialization.
      *
      * NOTE: The actual registration happens in the static initializers above.
-     * This method just ensures the class is loaded.
+     * This method ensures the class is loaded and exposes the machines to the
+     * Transfer API (hoppers, pipes) with their per-side rules.
      */
     public static void registerBlockEntities() {
         BloodForged.LOGGER.info("Registering block entities for " + BloodForged.MOD_ID);
+
+        ItemStorage.SIDED.registerForBlockEntity(ForgeBlockEntity::getItemStorage, FORGE_BLOCK_ENTITY);
+        ItemStorage.SIDED.registerForBlockEntity(AnvilBlockEntity::getItemStorage, ANVIL_BLOCK_ENTITY);
+        ItemStorage.SIDED.registerForBlockEntity(OpenFurnaceBlockEntity::getItemStorage, OPEN_FURNACE_BLOCK_ENTITY);
+        ItemStorage.SIDED.registerForBlockEntity(OreMachineBlockEntity::getItemStorage, ORE_MACHINE_BLOCK_ENTITY);
     }
 }
\ No newline at end of file
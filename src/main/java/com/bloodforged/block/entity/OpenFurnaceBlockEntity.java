@@ -0,0 +1,683 @@
+package com.bloodforged.block.entity;
+
+import com.bloodforged.block.OpenFurnaceBlock;
+import com.bloodforged.component.ModDataComponents;
+import com.bloodforged.material.ItemClassification;
+import com.bloodforged.material.MaterialForm;
+import com.bloodforged.material.MaterialRegistry;
+import com.bloodforged.material.MaterialSnapshot;
+import com.bloodforged.recipe.AlloyMatch;
+import com.bloodforged.recipe.AlloyMix;
+import com.bloodforged.recipe.AlloyRecipe;
+import com.bloodforged.recipe.ModRecipes;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.inventory.Inventories;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.collection.DefaultedList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * OpenFurnaceBlockEntity - Controller of the open furnace (bloomery) multiblock.
+ *
+ * STRUCTURE:
+ * The open furnace block is the core. It needs casing blocks
+ * (#bloodforged:open_furnace_casing - bricks and the like) on its four sides
+ * and underneath, as the hearth:
+ *
+ *        [C]
+ *     [C][F][C]      + [C] below F
+ *        [C]
+ *
+ * Each of those 5 positions is one bit in structureMask. The full mask is read
+ * ONCE (first tick after placing or loading); after that, a neighbour update on
+ * one of the positions flips just its bit (see OpenFurnaceBlock). The tick never
+ * scans the world - "is it formed?" is one int comparison.
+ *
+ * SMELTING:
+ * Raw ore and (washed) dust smelt into the ingot of the same material, in batches:
+ * every input slot smelts in parallel, off the same fuel. The ingot is found
+ * through the material snapshot's reverse index (material + INGOT -> item).
+ * Per-slot progress lives in one packed short[], not in per-slot objects.
+ *
+ * ALLOYING:
+ * When the input slots hold a mix some alloy recipe accepts (copper + tin dust,
+ * iron + carbon + flux), the furnace alloys instead: the whole batch found by
+ * AlloyRecipeIndex fuses at once after the recipe's time, and whatever doesn't
+ * fit the ratios stays in the inputs as leftovers. The match is cached against
+ * the inventory revision, so the solver only runs when the inputs change
+ * (hopper inserts included), never per tick.
+ *
+ * INVENTORY SLOTS:
+ * [0-8]   INPUT  - Raw ore / dust / alloy ingredients, one stack per slot
+ * [9]     FUEL   - Anything the vanilla fuel registry accepts
+ * [10-18] OUTPUT - Ingots; output slot i+10 belongs to input slot i (alloys fill any)
+ *
+ * AUTOMATION (hoppers, pipes - see MachineItemStorage):
+ * - Top:    ore, dust and alloy ingredients in
+ * - Sides:  fuel in
+ * - Bottom: ingots out (and emptied buckets from the fuel slot)
+ */
+public class OpenFurnaceBlockEntity extends BlockEntity implements MachineItemStorage.ImplementedSidedInventory,
+        DensityGovernor.Governed {
+
+    // === INVENTORY ===
+
+    public static final int INPUT_SLOTS = 9;
+    public static final int FUEL_SLOT = INPUT_SLOTS;
+    public static final int OUTPUT_START = FUEL_SLOT + 1;
+    public static final int SIZE = OUTPUT_START + INPUT_SLOTS;
+
+    private final DefaultedList<ItemStack> inventory = DefaultedList.ofSize(SIZE, ItemStack.EMPTY);
+    private final InventoryRevisions revisions = new InventoryRevisions(SIZE);
+
+    private static final int[] TOP_SLOTS = slotRange(0, INPUT_SLOTS);
+    private static final int[] SIDE_SLOTS = { FUEL_SLOT };
+    private static final int[] BOTTOM_SLOTS = slotRange(FUEL_SLOT, SIZE);
+
+    /**
+     * Transfer API view. One dirty mark per transfer.
+     */
+    private final MachineItemStorage itemStorage = new MachineItemStorage(this, slot -> 64, this::markDirty);
+
+    // === STRUCTURE ===
+
+    // Bit per structure position: the four horizontal sides, then the hearth below
+    public static final int HEARTH_BIT = 1 << 4;
+    public static final int FORMED_MASK = 0b11111;
+    private static final int UNKNOWN = -1;
+
+    private int structureMask = UNKNOWN;
+
+    // === SMELTING STATE ===
+
+    /**
+     * Ticks to smelt one item in a slot (same as a vanilla furnace).
+     */
+    public static final int SMELT_TICKS = 200;
+
+    // Smelt progress per input slot, in ticks
+    private final short[] progress = new short[INPUT_SLOTS];
+
+    // Per-slot smelt results of the current tick step (scratch, not saved)
+    private final Item[] smeltResults = new Item[INPUT_SLOTS];
+
+    // Remaining burn ticks of the current fuel item
+    private int burnTime = 0;
+
+    // Alloy batch progress, in ticks
+    private int alloyProgress = 0;
+
+    // Owner and throttle state, see DensityGovernor
+    private final DensityGovernor.Ticket ticket = new DensityGovernor.Ticket();
+
+    // === ALLOY CACHE (not saved - re-solved after load) ===
+
+    private final AlloyMix alloyMix = new AlloyMix();
+    private AlloyMatch alloy;
+
+    // Inventory revision, index generation and snapshot version the match was solved for
+    private int alloyRevision = -1;
+    private int alloyGeneration = -1;
+    private int alloySnapshot = -1;
+
+    // === CONSTRUCTOR ===
+
+    public OpenFurnaceBlockEntity(BlockPos pos, BlockState state) {
+        super(ModBlockEntities.OPEN_FURNACE_BLOCK_ENTITY, pos, state);
+    }
+
+    // === INVENTORY INTERFACE ===
+
+    @Override
+    public DefaultedList<ItemStack> getItems() {
+        return inventory;
+    }
+
+    @Override
+    public InventoryRevisions getRevisions() {
+        return revisions;
+    }
+
+    // === SIDED INVENTORY ===
+
+    @Override
+    public int[] getAvailableSlots(Direction side) {
+        return switch (side) {
+            case UP -> TOP_SLOTS;
+            case DOWN -> BOTTOM_SLOTS;
+            default -> SIDE_SLOTS;
+        };
+    }
+
+    @Override
+    public boolean canInsert(int slot, ItemStack stack, @Nullable Direction side) {
+        if (slot < INPUT_SLOTS) {
+            return side != Direction.DOWN && (isSmeltable(stack) || isAlloyInput(stack));
+        }
+        if (slot == FUEL_SLOT) {
+            return side != Direction.UP && side != Direction.DOWN
+                    && world != null && world.getFuelRegistry().isFuel(stack);
+        }
+        return false; // Outputs
+    }
+
+    @Override
+    public boolean canExtract(int slot, ItemStack stack, Direction side) {
+        if (side == Direction.UP) {
+            return false;
+        }
+        if (slot == FUEL_SLOT) {
+            // Only what burning left behind (lava bucket -> bucket), never unburnt fuel
+            return world != null && !world.getFuelRegistry().isFuel(stack);
+        }
+        return slot >= OUTPUT_START;
+    }
+
+    /**
+     * Item storage for one side (registered with ItemStorage.SIDED).
+     */
+    public Storage<ItemVariant> getItemStorage(@Nullable Direction side) {
+        return itemStorage.get(side);
+    }
+
+    private static int[] slotRange(int from, int to) {
+        int[] slots = new int[to - from];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = from + i;
+        }
+        return slots;
+    }
+
+    // === NBT SERIALIZATION ===
+
+    @Override
+    protected void writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        super.writeNbt(nbt, registryLookup);
+        Inventories.writeNbt(nbt, inventory, registryLookup);
+
+        int[] packed = new int[INPUT_SLOTS];
+        for (int i = 0; i < INPUT_SLOTS; i++) {
+            packed[i] = progress[i];
+        }
+        nbt.putIntArray("progress", packed);
+        nbt.putInt("burnTime", burnTime);
+        nbt.putInt("alloyProgress", alloyProgress);
+        ticket.writeNbt(nbt);
+    }
+
+    @Override
+    protected void readNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        super.readNbt(nbt, registryLookup);
+        Inventories.readNbt(nbt, inventory, registryLookup);
+
+        int[] packed = nbt.getIntArray("progress").orElse(new int[0]);
+        for (int i = 0; i < INPUT_SLOTS; i++) {
+            progress[i] = i < packed.length ? (short) packed[i] : 0;
+        }
+        burnTime = nbt.getInt("burnTime").orElse(0);
+        alloyProgress = nbt.getInt("alloyProgress").orElse(0);
+        ticket.readNbt(nbt);
+
+        // The world may have changed while unloaded
+        structureMask = UNKNOWN;
+        revisions.bumpAll();
+    }
+
+    // === ORE LINES / SPATIAL INDEX / DENSITY ===
+
+    /**
+     * Washers next to this furnace feed it directly; let their lines relink.
+     * Also joins the world's SmithySpatialIndex and DensityGovernor.
+     */
+    @Override
+    public void setWorld(World world) {
+        super.setWorld(world);
+        if (world instanceof ServerWorld serverWorld) {
+            OreLines.get(serverWorld).invalidate();
+            SmithySpatialIndex.get(serverWorld).furnaces().add(this);
+            DensityGovernor.get(serverWorld).add(this);
+        }
+    }
+
+    @Override
+    public void markRemoved() {
+        super.markRemoved();
+        if (world instanceof ServerWorld serverWorld) {
+            OreLines.get(serverWorld).invalidate();
+            SmithySpatialIndex.get(serverWorld).furnaces().remove(this);
+            DensityGovernor.get(serverWorld).remove(this);
+        }
+    }
+
+    @Override
+    public DensityGovernor.Ticket getTicket() {
+        return ticket;
+    }
+
+    // === STRUCTURE ===
+
+    /**
+     * Read all 5 structure positions. Only on the first tick, never per tick after.
+     */
+    private void validateStructure(World world) {
+        int mask = 0;
+        for (Direction side : Direction.Type.HORIZONTAL) {
+            if (OpenFurnaceBlock.isCasing(world.getBlockState(pos.offset(side)))) {
+                mask |= bitFor(side);
+            }
+        }
+        if (OpenFurnaceBlock.isCasing(world.getBlockState(pos.down()))) {
+            mask |= HEARTH_BIT;
+        }
+        structureMask = mask;
+    }
+
+    /**
+     * A neighbour of the core changed. Flips that position's bit only.
+     * Called from OpenFurnaceBlock.getStateForNeighborUpdate.
+     */
+    public void onNeighborChanged(Direction direction, BlockState neighborState) {
+        int bit = bitFor(direction);
+        if (bit == 0 || structureMask == UNKNOWN) {
+            return; // Above isn't part of the structure; unknown gets a full read anyway
+        }
+        structureMask = OpenFurnaceBlock.isCasing(neighborState) ? structureMask | bit : structureMask & ~bit;
+    }
+
+    private static int bitFor(Direction direction) {
+        return switch (direction) {
+            case NORTH -> 1;
+            case EAST -> 1 << 1;
+            case SOUTH -> 1 << 2;
+            case WEST -> 1 << 3;
+            case DOWN -> HEARTH_BIT;
+            case UP -> 0;
+        };
+    }
+
+    /**
+     * Whether the multiblock is complete.
+     */
+    public boolean isFormed() {
+        return structureMask == FORMED_MASK;
+    }
+
+    // === TICKING LOGIC ===
+
+    /**
+     * Advance the furnace by elapsed ticks (more than 1 when throttled, see DensityGovernor).
+     *
+     * Catching up doesn't replay tick by tick: each step runs until the next event
+     * (fuel burns out, a slot or the alloy batch finishes), so a throttled furnace
+     * costs a step or two per run, not one per elapsed tick.
+     */
+    public static void tick(World world, BlockPos pos, BlockState state, OpenFurnaceBlockEntity blockEntity, int elapsed) {
+        if (world.isClient) {
+            return;
+        }
+
+        if (blockEntity.structureMask == UNKNOWN) {
+            blockEntity.validateStructure(world);
+        }
+        if (!blockEntity.isFormed()) {
+            return;
+        }
+
+        MaterialSnapshot snapshot = MaterialRegistry.INSTANCE.snapshot(false);
+        boolean changed = false;
+
+        while (elapsed > 0) {
+            // An alloy takes the whole input; nothing is smelted on its own meanwhile,
+            // and a batch with no room in the outputs waits for them to be emptied
+            AlloyMatch alloy = blockEntity.currentAlloy(snapshot);
+            if (alloy != null && !blockEntity.canOutput(alloy.recipe().getResult(), alloy.units())) {
+                break;
+            }
+
+            // Light new fuel only if something can actually smelt
+            if (blockEntity.burnTime <= 0) {
+                if ((alloy == null && !blockEntity.hasSmeltableInput(snapshot)) || !blockEntity.consumeFuel(world)) {
+                    blockEntity.resetProgress();
+                    break;
+                }
+                changed = true;
+            }
+            int step = Math.min(elapsed, blockEntity.burnTime);
+
+            if (alloy != null) {
+                step = Math.min(step, Math.max(1, alloy.recipe().getTime() - blockEntity.alloyProgress));
+                blockEntity.burnTime -= step;
+                elapsed -= step;
+                blockEntity.alloyProgress += step;
+                if (blockEntity.alloyProgress >= alloy.recipe().getTime()) {
+                    blockEntity.alloyProgress = 0;
+                    blockEntity.fuseAlloy(snapshot, alloy);
+                    changed = true;
+                }
+                continue;
+            }
+            blockEntity.alloyProgress = 0;
+
+            // Every slot advances off the same fuel; stop the step at the first one to finish
+            Item[] results = blockEntity.smeltResults;
+            for (int slot = 0; slot < INPUT_SLOTS; slot++) {
+                results[slot] = blockEntity.smeltResult(snapshot, slot);
+                if (results[slot] == null) {
+                    blockEntity.progress[slot] = 0;
+                } else {
+                    step = Math.min(step, SMELT_TICKS - blockEntity.progress[slot]);
+                }
+            }
+            blockEntity.burnTime -= step;
+            elapsed -= step;
+
+            for (int slot = 0; slot < INPUT_SLOTS; slot++) {
+                if (results[slot] == null) {
+                    continue;
+                }
+                blockEntity.progress[slot] += step;
+                if (blockEntity.progress[slot] >= SMELT_TICKS) {
+                    blockEntity.progress[slot] = 0;
+                    blockEntity.smeltOne(slot, results[slot]);
+                    changed = true;
+                }
+            }
+        }
+
+        if (changed) {
+            blockEntity.markDirty();
+        }
+    }
+
+    /**
+     * Ingot an input slot smelts into, or null if it can't smelt right now
+     * (empty, not ore/dust, no ingot for that material, or output full).
+     */
+    private Item smeltResult(MaterialSnapshot snapshot, int slot) {
+        ItemStack input = inventory.get(slot);
+        if (input.isEmpty()) {
+            return null;
+        }
+
+        ItemClassification classification = snapshot.classify(input);
+        if (classification == null || classification.getForm() == MaterialForm.INGOT
+                || input.contains(ModDataComponents.UNWASHED)) {
+            return null;
+        }
+
+        Item ingot = snapshot.itemFor(classification.getMaterialHandle(), MaterialForm.INGOT);
+        if (ingot == null) {
+            return null;
+        }
+
+        ItemStack output = inventory.get(OUTPUT_START + slot);
+        if (!output.isEmpty() && (!output.isOf(ingot) || output.getCount() >= output.getMaxCount())) {
+            return null;
+        }
+        return ingot;
+    }
+
+    private boolean hasSmeltableInput(MaterialSnapshot snapshot) {
+        for (int slot = 0; slot < INPUT_SLOTS; slot++) {
+            if (smeltResult(snapshot, slot) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void smeltOne(int slot, Item ingot) {
+        inventory.get(slot).decrement(1);
+        revisions.bump(slot);
+
+        int outputSlot = OUTPUT_START + slot;
+        ItemStack output = inventory.get(outputSlot);
+        if (output.isEmpty()) {
+            inventory.set(outputSlot, new ItemStack(ingot));
+        } else {
+            output.increment(1);
+        }
+        revisions.bump(outputSlot);
+    }
+
+    private boolean consumeFuel(World world) {
+        ItemStack fuel = inventory.get(FUEL_SLOT);
+        int ticks = fuel.isEmpty() ? 0 : world.getFuelRegistry().getFuelTicks(fuel);
+        if (ticks <= 0) {
+            return false;
+        }
+
+        burnTime = ticks;
+        ItemStack remainder = fuel.getItem().getRecipeRemainder();
+        fuel.decrement(1);
+        if (fuel.isEmpty()) {
+            inventory.set(FUEL_SLOT, remainder); // Lava bucket -> bucket
+        }
+        revisions.bump(FUEL_SLOT);
+        return true;
+    }
+
+    private void resetProgress() {
+        for (int slot = 0; slot < INPUT_SLOTS; slot++) {
+            progress[slot] = 0;
+        }
+        alloyProgress = 0;
+    }
+
+    // === ALLOYING ===
+
+    /**
+     * Best alloy the inputs can make right now, or null.
+     * Solved only when the inputs, the recipes or the materials changed.
+     */
+    private AlloyMatch currentAlloy(MaterialSnapshot snapshot) {
+        int revision = revisions.total();
+        int generation = ModRecipes.ALLOY_INDEX.getGeneration();
+        if (revision == alloyRevision && generation == alloyGeneration && snapshot.getVersion() == alloySnapshot) {
+            return alloy;
+        }
+
+        // Only alloy ingredients count; raw ore and the like smelt on their own afterwards
+        alloyMix.clear();
+        for (int slot = 0; slot < INPUT_SLOTS; slot++) {
+            ItemStack input = inventory.get(slot);
+            if (!input.isEmpty() && !input.contains(ModDataComponents.UNWASHED)) {
+                Identifier key = AlloyMix.keyOf(snapshot, input);
+                if (ModRecipes.ALLOY_INDEX.isInput(key)) {
+                    alloyMix.add(key, input.getCount());
+                }
+            }
+        }
+        alloy = alloyMix.isEmpty() ? null : ModRecipes.ALLOY_INDEX.solve(alloyMix);
+
+        alloyRevision = revision;
+        alloyGeneration = generation;
+        alloySnapshot = snapshot.getVersion();
+        return alloy;
+    }
+
+    /**
+     * Take the batch's units (and one catalyst) out of the inputs and put the alloy in the outputs.
+     */
+    private void fuseAlloy(MaterialSnapshot snapshot, AlloyMatch match) {
+        AlloyRecipe recipe = match.recipe();
+        List<AlloyRecipe.Component> components = recipe.getComponents();
+        for (int i = 0; i < components.size(); i++) {
+            takeInput(snapshot, components.get(i).id(), match.amounts()[i]);
+        }
+        if (recipe.getCatalystId() != null) {
+            takeInput(snapshot, recipe.getCatalystId(), 1);
+        }
+
+        ItemStack result = recipe.getResult();
+        int remaining = result.getCount() * match.units();
+        for (int slot = OUTPUT_START; slot < SIZE && remaining > 0; slot++) {
+            ItemStack output = inventory.get(slot);
+            if (output.isEmpty()) {
+                int moved = Math.min(remaining, result.getMaxCount());
+                inventory.set(slot, result.copyWithCount(moved));
+                remaining -= moved;
+                revisions.bump(slot);
+            } else if (ItemStack.areItemsAndComponentsEqual(output, result)) {
+                int moved = Math.min(remaining, output.getMaxCount() - output.getCount());
+                if (moved > 0) {
+                    output.increment(moved);
+                    remaining -= moved;
+                    revisions.bump(slot);
+                }
+            }
+        }
+    }
+
+    private void takeInput(MaterialSnapshot snapshot, Identifier key, int units) {
+        for (int slot = 0; slot < INPUT_SLOTS && units > 0; slot++) {
+            ItemStack input = inventory.get(slot);
+            if (!input.isEmpty() && !input.contains(ModDataComponents.UNWASHED)
+                    && AlloyMix.keyOf(snapshot, input).equals(key)) {
+                int taken = Math.min(units, input.getCount());
+                input.decrement(taken);
+                units -= taken;
+                revisions.bump(slot);
+            }
+        }
+    }
+
+    /**
+     * Whether the output slots have room for count items like the result.
+     */
+    private boolean canOutput(ItemStack result, int units) {
+        int remaining = result.getCount() * units;
+        for (int slot = OUTPUT_START; slot < SIZE && remaining > 0; slot++) {
+            ItemStack output = inventory.get(slot);
+            if (output.isEmpty()) {
+                remaining -= result.getMaxCount();
+            } else if (ItemStack.areItemsAndComponentsEqual(output, result)) {
+                remaining -= output.getMaxCount() - output.getCount();
+            }
+        }
+        return remaining <= 0;
+    }
+
+    // === PUBLIC METHODS ===
+
+    /**
+     * Check if a stack can be smelted here (raw ore or dust with a known ingot).
+     */
+    public static boolean isSmeltable(ItemStack stack) {
+        if (stack.contains(ModDataComponents.UNWASHED)) {
+            return false; // Crushed ore has to be washed first
+        }
+        MaterialSnapshot snapshot = MaterialRegistry.INSTANCE.snapshot(false);
+        ItemClassification classification = snapshot.classify(stack);
+        return classification != null && classification.getForm() != MaterialForm.INGOT
+                && snapshot.itemFor(classification.getMaterialHandle(), MaterialForm.INGOT) != null;
+    }
+
+    /**
+     * Check if a stack is an ingredient (or catalyst) of any alloy recipe.
+     */
+    public static boolean isAlloyInput(ItemStack stack) {
+        if (stack.contains(ModDataComponents.UNWASHED)) {
+            return false;
+        }
+        MaterialSnapshot snapshot = MaterialRegistry.INSTANCE.snapshot(false);
+        return ModRecipes.ALLOY_INDEX.isInput(AlloyMix.keyOf(snapshot, stack));
+    }
+
+    /**
+     * Insert a stack: fuel into the fuel slot, ore and alloy ingredients into
+     * the first input slot that takes it.
+     *
+     * @param stack Stack to take from (shrunk by the amount inserted)
+     * @return true if anything was inserted
+     */
+    public boolean insert(ItemStack stack) {
+        if (world == null) {
+            return false;
+        }
+
+        int from;
+        int to;
+        boolean input = isSmeltable(stack) || isAlloyInput(stack);
+        if (world.getFuelRegistry().isFuel(stack) && !input) {
+            from = FUEL_SLOT;
+            to = FUEL_SLOT + 1;
+        } else if (input) {
+            from = 0;
+            to = INPUT_SLOTS;
+        } else {
+            return false;
+        }
+
+        int before = stack.getCount();
+        for (int slot = from; slot < to && !stack.isEmpty(); slot++) {
+            ItemStack current = inventory.get(slot);
+            if (current.isEmpty()) {
+                inventory.set(slot, stack.split(stack.getMaxCount()));
+                revisions.bump(slot);
+            } else if (ItemStack.areItemsAndComponentsEqual(current, stack)) {
+                int moved = Math.min(stack.getCount(), current.getMaxCount() - current.getCount());
+                if (moved > 0) {
+                    current.increment(moved);
+                    stack.decrement(moved);
+                    revisions.bump(slot);
+                }
+            }
+        }
+
+        if (stack.getCount() == before) {
+            return false;
+        }
+        markDirty();
+        return true;
+    }
+
+    /**
+     * Take every finished ingot out of the output slots.
+     *
+     * @return The ingot stacks (possibly empty)
+     */
+    public DefaultedList<ItemStack> takeOutputs() {
+        DefaultedList<ItemStack> taken = DefaultedList.of();
+        for (int slot = OUTPUT_START; slot < SIZE; slot++) {
+            ItemStack output = inventory.get(slot);
+            if (!output.isEmpty()) {
+                taken.add(output);
+                inventory.set(slot, ItemStack.EMPTY);
+                revisions.bump(slot);
+            }
+        }
+        if (!taken.isEmpty()) {
+            markDirty();
+        }
+        return taken;
+    }
+
+    public boolean isBurning() {
+        return burnTime > 0;
+    }
+
+    /**
+     * The alloy the current inputs make, with its leftovers, or null if they
+     * don't make one (or the furnace isn't loaded on a server).
+     */
+    public AlloyMatch getAlloy() {
+        if (world == null || world.isClient) {
+            return null;
+        }
+        return currentAlloy(MaterialRegistry.INSTANCE.snapshot(false));
+    }
+}
@@ -0,0 +1,37 @@
+package com.bloodforged.block.entity;
+
+import com.bloodforged.material.MaterialSnapshot;
+
+import java.util.List;
+
+/**
+ * A connected group of ore machines, advanced as one unit.
+ *
+ * Members are ordered downstream first (washers before crushers), so an item
+ * moves at most one stage per tick and every stage sees its input before the
+ * stage feeding it refills the output. Built and replaced by OreLines; never
+ * modified after construction.
+ */
+public final class OreLine {
+
+    private final OreMachineBlockEntity[] members;
+
+    OreLine(List<OreMachineBlockEntity> members) {
+        this.members = members.toArray(new OreMachineBlockEntity[0]);
+    }
+
+    /**
+     * Advance every machine in the line by one tick.
+     */
+    void tick(MaterialSnapshot snapshot) {
+        for (OreMachineBlockEntity machine : members) {
+            if (machine.process(snapshot)) {
+                machine.markDirty();
+            }
+        }
+    }
+
+    public int size() {
+        return members.length;
+    }
+}
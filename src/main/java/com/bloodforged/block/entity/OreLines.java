@@ -0,0 +1,194 @@
+package com.bloodforged.block.entity;
+
+import com.bloodforged.material.MaterialRegistry;
+import com.bloodforged.material.MaterialSnapshot;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Per-world controller for ore processing lines.
+ *
+ * CONCEPT:
+ * A crusher next to a washer next to an open furnace is one pipeline. Instead of
+ * one block entity ticker per machine, every machine registers here and the
+ * whole world's lines advance from ONE END_WORLD_TICK callback.
+ *
+ * BOOKKEEPING:
+ * - Machines register by packed BlockPos when added to the world and leave
+ *   when removed (broken or chunk unloaded) - see OreMachineBlockEntity
+ * - Any join or leave marks the topology dirty; lines are rebuilt once, on the
+ *   next tick, by flood fill over the registered positions (no world reads)
+ * - While rebuilding, each machine is linked to the next stage: crusher →
+ *   adjacent washer, washer → adjacent open furnace (one block entity lookup
+ *   per washer per rebuild, only in loaded chunks); open furnaces invalidate
+ *   the topology when they come and go
+ *
+ * A steady line costs nothing but its members' process() calls.
+ * Server thread only.
+ */
+public final class OreLines {
+
+    private static final Map<ServerWorld, OreLines> WORLDS = new IdentityHashMap<>();
+
+    private static final Direction[] HORIZONTAL = {
+            Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST
+    };
+
+    private final ServerWorld world;
+    private final Long2ObjectOpenHashMap<OreMachineBlockEntity> machines = new Long2ObjectOpenHashMap<>();
+    private List<OreLine> lines = List.of();
+    private boolean dirty = false;
+
+    private OreLines(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static OreLines get(ServerWorld world) {
+        return WORLDS.computeIfAbsent(world, OreLines::new);
+    }
+
+    /**
+     * Advance every line in a world. Registered on END_WORLD_TICK.
+     */
+    public static void tick(ServerWorld world) {
+        OreLines lines = WORLDS.get(world);
+        if (lines != null) {
+            lines.tick();
+        }
+    }
+
+    /**
+     * Forget a world's lines. Registered on world unload.
+     */
+    public static void unload(ServerWorld world) {
+        WORLDS.remove(world);
+    }
+
+    // === MEMBERSHIP ===
+
+    void add(OreMachineBlockEntity machine) {
+        machines.put(machine.getPos().asLong(), machine);
+        dirty = true;
+    }
+
+    void remove(OreMachineBlockEntity machine) {
+        long key = machine.getPos().asLong();
+        // A newer block entity may already sit at this position
+        if (machines.get(key) == machine) {
+            machines.remove(key);
+        }
+        machine.line = null;
+        machine.next = null;
+        machine.furnace = null;
+        dirty = true;
+    }
+
+    /**
+     * Something next to a line changed (an open furnace came or went):
+     * relink on the next tick.
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    // === TICKING ===
+
+    private void tick() {
+        if (dirty) {
+            rebuild();
+            dirty = false;
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        MaterialSnapshot snapshot = MaterialRegistry.INSTANCE.snapshot(false);
+        for (OreLine line : lines) {
+            line.tick(snapshot);
+        }
+    }
+
+    /**
+     * Regroup all registered machines into lines and relink the stages.
+     */
+    private void rebuild() {
+        List<OreLine> rebuilt = new ArrayList<>();
+        LongOpenHashSet visited = new LongOpenHashSet(machines.size());
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        BlockPos.Mutable neighbor = new BlockPos.Mutable();
+
+        for (long start : machines.keySet()) {
+            if (!visited.add(start)) {
+                continue;
+            }
+
+            List<OreMachineBlockEntity> members = new ArrayList<>();
+            queue.enqueue(start);
+            while (!queue.isEmpty()) {
+                long key = queue.dequeueLong();
+                OreMachineBlockEntity machine = machines.get(key);
+                members.add(machine);
+
+                BlockPos pos = machine.getPos();
+                for (Direction side : HORIZONTAL) {
+                    long neighborKey = neighbor.set(pos, side).asLong();
+                    if (machines.containsKey(neighborKey) && visited.add(neighborKey)) {
+                        queue.enqueue(neighborKey);
+                    }
+                }
+            }
+
+            // Downstream stages first
+            members.sort(Comparator.comparing(OreMachineBlockEntity::getStage).reversed());
+            OreLine line = new OreLine(members);
+            for (OreMachineBlockEntity machine : members) {
+                link(machine, line, neighbor);
+            }
+            rebuilt.add(line);
+        }
+
+        lines = List.copyOf(rebuilt);
+    }
+
+    private void link(OreMachineBlockEntity machine, OreLine line, BlockPos.Mutable neighbor) {
+        machine.line = line;
+        machine.next = null;
+        machine.furnace = null;
+
+        BlockPos pos = machine.getPos();
+        for (Direction side : HORIZONTAL) {
+            neighbor.set(pos, side);
+            switch (machine.getStage()) {
+                case CRUSHER -> {
+                    OreMachineBlockEntity other = machines.get(neighbor.asLong());
+                    if (machine.next == null && other != null && other.getStage() == OreMachineBlockEntity.Stage.WASHER) {
+                        machine.next = other;
+                    }
+                }
+                case WASHER -> {
+                    if (machine.furnace == null && world.isChunkLoaded(neighbor)
+                            && world.getBlockEntity(neighbor) instanceof OpenFurnaceBlockEntity furnace) {
+                        machine.furnace = furnace;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of lines in this world (for debugging).
+     */
+    public int lineCount() {
+        return lines.size();
+    }
+}
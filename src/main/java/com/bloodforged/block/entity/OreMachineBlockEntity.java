@@ -0,0 +1,319 @@
+package com.bloodforged.block.entity;
+
+import com.bloodforged.block.OreMachineBlock;
+import com.bloodforged.component.ModDataComponents;
+import com.bloodforged.material.ItemClassification;
+import com.bloodforged.material.MaterialForm;
+import com.bloodforged.material.MaterialRegistry;
+import com.bloodforged.material.MaterialSnapshot;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.inventory.Inventories;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Unit;
+import net.minecraft.util.collection.DefaultedList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * OreMachineBlockEntity - One stage of an ore processing line (crusher or washer).
+ *
+ * STAGES:
+ * - CRUSHER: raw ore → 2 unwashed dust of the same material
+ * - WASHER:  unwashed dust → clean dust (what the open furnace smelts)
+ *
+ * NO TICKER:
+ * Machines don't tick themselves. Adjacent machines form an OreLine, and
+ * OreLines advances every line in the world from one END_WORLD_TICK callback.
+ * The line links each machine to the next stage when it forms:
+ *   crusher → adjacent washer → adjacent open furnace
+ * so finished items are handed over through those references, never through
+ * a world inventory lookup per tick.
+ *
+ * INVENTORY SLOTS:
+ * [0] INPUT  - What this stage processes
+ * [1] OUTPUT - Processed items waiting for the next stage (or a player)
+ *
+ * AUTOMATION (hoppers, pipes - see MachineItemStorage):
+ * - Top and sides: input in (only what this stage accepts)
+ * - Bottom:        output out
+ */
+public class OreMachineBlockEntity extends BlockEntity implements MachineItemStorage.ImplementedSidedInventory {
+
+    /**
+     * What a machine does, and how long it takes per item.
+     */
+    public enum Stage {
+        CRUSHER(100, 2),
+        WASHER(60, 1);
+
+        private final int ticks;
+        private final int yield;
+
+        Stage(int ticks, int yield) {
+            this.ticks = ticks;
+            this.yield = yield;
+        }
+    }
+
+    // === INVENTORY ===
+
+    public static final int INPUT_SLOT = 0;
+    public static final int OUTPUT_SLOT = 1;
+
+    private final DefaultedList<ItemStack> inventory = DefaultedList.ofSize(2, ItemStack.EMPTY);
+    private final InventoryRevisions revisions = new InventoryRevisions(2);
+
+    private static final int[] INPUT_SLOTS = { INPUT_SLOT };
+    private static final int[] OUTPUT_SLOTS = { OUTPUT_SLOT };
+
+    /**
+     * Transfer API view. One dirty mark per transfer.
+     */
+    private final MachineItemStorage itemStorage = new MachineItemStorage(this, slot -> 64, this::markDirty);
+
+    // === STATE ===
+
+    private int progress = 0;
+
+    // === LINE LINKS (transient, set by OreLines) ===
+
+    OreLine line;
+    OreMachineBlockEntity next;
+    OpenFurnaceBlockEntity furnace;
+
+    // === CONSTRUCTOR ===
+
+    public OreMachineBlockEntity(BlockPos pos, BlockState state) {
+        super(ModBlockEntities.ORE_MACHINE_BLOCK_ENTITY, pos, state);
+    }
+
+    public Stage getStage() {
+        return ((OreMachineBlock) getCachedState().getBlock()).getStage();
+    }
+
+    // === INVENTORY INTERFACE ===
+
+    @Override
+    public DefaultedList<ItemStack> getItems() {
+        return inventory;
+    }
+
+    @Override
+    public InventoryRevisions getRevisions() {
+        return revisions;
+    }
+
+    // === SIDED INVENTORY ===
+
+    @Override
+    public int[] getAvailableSlots(Direction side) {
+        return side == Direction.DOWN ? OUTPUT_SLOTS : INPUT_SLOTS;
+    }
+
+    @Override
+    public boolean canInsert(int slot, ItemStack stack, @Nullable Direction side) {
+        return slot == INPUT_SLOT && side != Direction.DOWN && accepts(getStage(), stack);
+    }
+
+    @Override
+    public boolean canExtract(int slot, ItemStack stack, Direction side) {
+        return slot == OUTPUT_SLOT && side != Direction.UP;
+    }
+
+    /**
+     * Item storage for one side (registered with ItemStorage.SIDED).
+     */
+    public Storage<ItemVariant> getItemStorage(@Nullable Direction side) {
+        return itemStorage.get(side);
+    }
+
+    // === NBT SERIALIZATION ===
+
+    @Override
+    protected void writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        super.writeNbt(nbt, registryLookup);
+        Inventories.writeNbt(nbt, inventory, registryLookup);
+        nbt.putInt("progress", progress);
+    }
+
+    @Override
+    protected void readNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        super.readNbt(nbt, registryLookup);
+        Inventories.readNbt(nbt, inventory, registryLookup);
+        progress = nbt.getInt("progress").orElse(0);
+        revisions.bumpAll();
+    }
+
+    // === LINE MEMBERSHIP ===
+
+    /**
+     * Added to a world (placed or chunk loaded): queue to join a line.
+     */
+    @Override
+    public void setWorld(World world) {
+        super.setWorld(world);
+        if (world instanceof ServerWorld serverWorld) {
+            OreLines.get(serverWorld).add(this);
+        }
+    }
+
+    /**
+     * Broken or chunk unloaded: leave the line.
+     */
+    @Override
+    public void markRemoved() {
+        super.markRemoved();
+        if (world instanceof ServerWorld serverWorld) {
+            OreLines.get(serverWorld).remove(this);
+        }
+    }
+
+    // === PROCESSING (called by OreLine) ===
+
+    /**
+     * Advance this stage by one tick, then hand finished items downstream.
+     *
+     * @return true if anything changed
+     */
+    boolean process(MaterialSnapshot snapshot) {
+        Stage stage = getStage();
+        boolean changed = false;
+
+        ItemStack input = inventory.get(INPUT_SLOT);
+        Item result = input.isEmpty() ? null : resultItem(stage, snapshot, input);
+        if (result == null || !outputFits(stage, result)) {
+            progress = 0;
+        } else if (++progress >= stage.ticks) {
+            progress = 0;
+            finishOne(stage, result);
+            changed = true;
+        }
+
+        return pushDownstream() || changed;
+    }
+
+    private void finishOne(Stage stage, Item result) {
+        inventory.get(INPUT_SLOT).decrement(1);
+        revisions.bump(INPUT_SLOT);
+
+        ItemStack output = inventory.get(OUTPUT_SLOT);
+        if (output.isEmpty()) {
+            output = new ItemStack(result, stage.yield);
+            if (stage == Stage.CRUSHER) {
+                output.set(ModDataComponents.UNWASHED, Unit.INSTANCE);
+            }
+            inventory.set(OUTPUT_SLOT, output);
+        } else {
+            output.increment(stage.yield);
+        }
+        revisions.bump(OUTPUT_SLOT);
+    }
+
+    /**
+     * Hand output to the next stage through the link set up by the line.
+     */
+    private boolean pushDownstream() {
+        ItemStack output = inventory.get(OUTPUT_SLOT);
+        if (output.isEmpty()) {
+            return false;
+        }
+
+        int before = output.getCount();
+        if (next != null && !next.isRemoved()) {
+            next.accept(output);
+        } else if (furnace != null && !furnace.isRemoved()) {
+            furnace.insert(output);
+        }
+
+        if (output.getCount() == before) {
+            return false;
+        }
+        if (output.isEmpty()) {
+            inventory.set(OUTPUT_SLOT, ItemStack.EMPTY);
+        }
+        revisions.bump(OUTPUT_SLOT);
+        return true;
+    }
+
+    /**
+     * Take as much of a stack into the input slot as fits.
+     * Used by the previous stage and by players.
+     *
+     * @return true if anything was taken
+     */
+    public boolean accept(ItemStack stack) {
+        if (!accepts(getStage(), stack)) {
+            return false;
+        }
+
+        ItemStack input = inventory.get(INPUT_SLOT);
+        if (input.isEmpty()) {
+            inventory.set(INPUT_SLOT, stack.split(stack.getMaxCount()));
+        } else if (ItemStack.areItemsAndComponentsEqual(input, stack)) {
+            int moved = Math.min(stack.getCount(), input.getMaxCount() - input.getCount());
+            if (moved <= 0) {
+                return false;
+            }
+            input.increment(moved);
+            stack.decrement(moved);
+        } else {
+            return false;
+        }
+
+        revisions.bump(INPUT_SLOT);
+        markDirty();
+        return true;
+    }
+
+    // === RULES ===
+
+    /**
+     * Whether a stage takes a stack as input.
+     */
+    public static boolean accepts(Stage stage, ItemStack stack) {
+        return switch (stage) {
+            case CRUSHER -> {
+                MaterialSnapshot snapshot = MaterialRegistry.INSTANCE.snapshot(false);
+                ItemClassification classification = snapshot.classify(stack);
+                yield classification != null && classification.getForm() == MaterialForm.RAW
+                        && snapshot.itemFor(classification.getMaterialHandle(), MaterialForm.DUST) != null;
+            }
+            case WASHER -> stack.contains(ModDataComponents.UNWASHED);
+        };
+    }
+
+    /**
+     * Item a stage turns an input into, or null if it can't process it.
+     * Allocation-free: the component marker is applied when the item is made.
+     */
+    private static Item resultItem(Stage stage, MaterialSnapshot snapshot, ItemStack input) {
+        return switch (stage) {
+            case CRUSHER -> {
+                ItemClassification classification = snapshot.classify(input);
+                yield classification != null && classification.getForm() == MaterialForm.RAW
+                        ? snapshot.itemFor(classification.getMaterialHandle(), MaterialForm.DUST)
+                        : null;
+            }
+            case WASHER -> input.contains(ModDataComponents.UNWASHED) ? input.getItem() : null;
+        };
+    }
+
+    private boolean outputFits(Stage stage, Item result) {
+        ItemStack output = inventory.get(OUTPUT_SLOT);
+        if (output.isEmpty()) {
+            return true;
+        }
+        return output.isOf(result)
+                && output.contains(ModDataComponents.UNWASHED) == (stage == Stage.CRUSHER)
+                && output.getCount() + stage.yield <= output.getMaxCount();
+    }
+}
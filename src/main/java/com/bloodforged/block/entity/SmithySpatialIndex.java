@@ -0,0 +1,335 @@
+package com.bloodforged.block.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Per-world spatial index of forges, anvils and open furnaces.
+ *
+ * CONCEPT:
+ * "Nearest lit forge", "anvils within 16 blocks", "heat sources next to this
+ * anvil" - without an index each of those is a scan over block entities.
+ * Here every smithy block entity registers itself in a bucket for its chunk
+ * section (16x16x16), one layer per kind:
+ *   SmithySpatialIndex.get(world).forges()
+ *
+ * BOOKKEEPING:
+ * - Block entities join in setWorld (placed or chunk loaded) and leave in
+ *   markRemoved (broken or chunk unloaded), same as OreLines
+ * - Buckets are packed arrays with swap-remove; empty buckets are dropped
+ *
+ * QUERIES:
+ * - within(pos, radius, out, filter):           everything in a sphere
+ * - nearest(pos, k, maxRadius, out, filter):    the k closest, nearest first
+ * Results go into the caller's array; the return value is how many were
+ * written. Queries allocate nothing (a non-capturing filter lambda is a
+ * constant). Server thread only.
+ */
+public final class SmithySpatialIndex {
+
+    private static final Map<ServerWorld, SmithySpatialIndex> WORLDS = new IdentityHashMap<>();
+
+    private final Layer<ForgeBlockEntity> forges = new Layer<>(ForgeBlockEntity[]::new);
+    private final Layer<AnvilBlockEntity> anvils = new Layer<>(AnvilBlockEntity[]::new);
+    private final Layer<OpenFurnaceBlockEntity> furnaces = new Layer<>(OpenFurnaceBlockEntity[]::new);
+
+    private SmithySpatialIndex() {
+    }
+
+    public static SmithySpatialIndex get(ServerWorld world) {
+        return WORLDS.computeIfAbsent(world, w -> new SmithySpatialIndex());
+    }
+
+    /**
+     * Forget a world's index. Registered on world unload.
+     */
+    public static void unload(ServerWorld world) {
+        WORLDS.remove(world);
+    }
+
+    public Layer<ForgeBlockEntity> forges() {
+        return forges;
+    }
+
+    public Layer<AnvilBlockEntity> anvils() {
+        return anvils;
+    }
+
+    public Layer<OpenFurnaceBlockEntity> furnaces() {
+        return furnaces;
+    }
+
+    // === LAYER ===
+
+    /**
+     * Block entities of one kind, bucketed by chunk section.
+     */
+    public static final class Layer<T extends BlockEntity> {
+
+        private static final int SECTION_SIZE = 16;
+
+        private final IntFunction<T[]> arrayFactory;
+        private final Long2ObjectOpenHashMap<Bucket<T>> sections = new Long2ObjectOpenHashMap<>();
+        private int size = 0;
+
+        // Distances for nearest(), reused between queries
+        private double[] scratch = new double[16];
+
+        private Layer(IntFunction<T[]> arrayFactory) {
+            this.arrayFactory = arrayFactory;
+        }
+
+        // === MEMBERSHIP ===
+
+        public void add(T entry) {
+            long key = sectionKey(entry.getPos());
+            Bucket<T> bucket = sections.get(key);
+            if (bucket == null) {
+                bucket = new Bucket<>(arrayFactory.apply(4));
+                sections.put(key, bucket);
+            }
+            if (bucket.add(entry)) {
+                size++;
+            }
+        }
+
+        public void remove(T entry) {
+            long key = sectionKey(entry.getPos());
+            Bucket<T> bucket = sections.get(key);
+            if (bucket != null && bucket.remove(entry)) {
+                size--;
+                if (bucket.size == 0) {
+                    sections.remove(key);
+                }
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        // === QUERIES ===
+
+        /**
+         * Everything within radius blocks of pos (center to center), in no particular order.
+         *
+         * @param out    Receives the results; stops filling when full
+         * @param filter Extra condition, or null
+         * @return Number of results written to out
+         */
+        public int within(BlockPos pos, int radius, T[] out, Predicate<? super T> filter) {
+            if (size == 0 || out.length == 0) {
+                return 0;
+            }
+
+            double radiusSq = (double) radius * radius;
+            int count = 0;
+            int minX = (pos.getX() - radius) >> 4;
+            int maxX = (pos.getX() + radius) >> 4;
+            int minY = (pos.getY() - radius) >> 4;
+            int maxY = (pos.getY() + radius) >> 4;
+            int minZ = (pos.getZ() - radius) >> 4;
+            int maxZ = (pos.getZ() + radius) >> 4;
+
+            for (int sx = minX; sx <= maxX; sx++) {
+                for (int sy = minY; sy <= maxY; sy++) {
+                    for (int sz = minZ; sz <= maxZ; sz++) {
+                        Bucket<T> bucket = sections.get(ChunkSectionPos.asLong(sx, sy, sz));
+                        if (bucket == null) {
+                            continue;
+                        }
+                        for (int i = 0; i < bucket.size; i++) {
+                            T entry = bucket.entries[i];
+                            if (entry.getPos().getSquaredDistance(pos) <= radiusSq
+                                    && (filter == null || filter.test(entry))) {
+                                out[count++] = entry;
+                                if (count == out.length) {
+                                    return count;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            return count;
+        }
+
+        /**
+         * The k closest entries within maxRadius blocks of pos, nearest first.
+         *
+         * Sections are visited in rings of growing distance around pos's section,
+         * and the walk stops as soon as no further ring can beat the k-th best.
+         *
+         * @param k      How many to find (at most out.length)
+         * @param out    Receives the results, nearest first
+         * @param filter Extra condition, or null
+         * @return Number of results written to out
+         */
+        public int nearest(BlockPos pos, int k, int maxRadius, T[] out, Predicate<? super T> filter) {
+            k = Math.min(k, out.length);
+            if (size == 0 || k <= 0) {
+                return 0;
+            }
+            if (scratch.length < k) {
+                scratch = new double[k];
+            }
+
+            double maxSq = (double) maxRadius * maxRadius;
+            int centerX = pos.getX() >> 4;
+            int centerY = pos.getY() >> 4;
+            int centerZ = pos.getZ() >> 4;
+            int rings = (maxRadius >> 4) + 1;
+            int count = 0;
+
+            for (int ring = 0; ring <= rings; ring++) {
+                // Any block in this ring is at least (ring - 1) whole sections away
+                if (ring > 1) {
+                    double reach = (double) (ring - 1) * SECTION_SIZE;
+                    double reachSq = reach * reach;
+                    if (reachSq > maxSq || count == k && reachSq > scratch[0]) {
+                        break;
+                    }
+                }
+
+                for (int dx = -ring; dx <= ring; dx++) {
+                    for (int dy = -ring; dy <= ring; dy++) {
+                        boolean xyEdge = Math.abs(dx) == ring || Math.abs(dy) == ring;
+                        for (int dz = -ring; dz <= ring; dz++) {
+                            // Only the shell of the cube; the inside was visited by smaller rings
+                            if (!xyEdge && Math.abs(dz) != ring) {
+                                dz = ring - 1;
+                                continue;
+                            }
+                            Bucket<T> bucket = sections.get(ChunkSectionPos.asLong(centerX + dx, centerY + dy, centerZ + dz));
+                            if (bucket != null) {
+                                count = offerAll(bucket, pos, k, maxSq, out, filter, count);
+                            }
+                        }
+                    }
+                }
+            }
+
+            // Heap -> ascending order, in place
+            for (int end = count - 1; end > 0; end--) {
+                swap(out, 0, end);
+                siftDown(out, 0, end);
+            }
+            return count;
+        }
+
+        /**
+         * Offer a bucket's entries to the max-heap of the k best (out + scratch).
+         */
+        private int offerAll(Bucket<T> bucket, BlockPos pos, int k, double maxSq, T[] out,
+                             Predicate<? super T> filter, int count) {
+            for (int i = 0; i < bucket.size; i++) {
+                T entry = bucket.entries[i];
+                double distSq = entry.getPos().getSquaredDistance(pos);
+                if (distSq > maxSq || count == k && distSq >= scratch[0]
+                        || filter != null && !filter.test(entry)) {
+                    continue;
+                }
+
+                if (count < k) {
+                    out[count] = entry;
+                    scratch[count] = distSq;
+                    siftUp(out, count);
+                    count++;
+                } else {
+                    out[0] = entry;
+                    scratch[0] = distSq;
+                    siftDown(out, 0, count);
+                }
+            }
+            return count;
+        }
+
+        private void siftUp(T[] heap, int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (scratch[parent] >= scratch[index]) {
+                    return;
+                }
+                swap(heap, parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(T[] heap, int index, int length) {
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= length) {
+                    return;
+                }
+                if (child + 1 < length && scratch[child + 1] > scratch[child]) {
+                    child++;
+                }
+                if (scratch[index] >= scratch[child]) {
+                    return;
+                }
+                swap(heap, index, child);
+                index = child;
+            }
+        }
+
+        private void swap(T[] heap, int a, int b) {
+            T entry = heap[a];
+            heap[a] = heap[b];
+            heap[b] = entry;
+            double dist = scratch[a];
+            scratch[a] = scratch[b];
+            scratch[b] = dist;
+        }
+
+        private static long sectionKey(BlockPos pos) {
+            return ChunkSectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        }
+    }
+
+    // === BUCKET ===
+
+    /**
+     * Packed entries of one chunk section. Sections rarely hold more than a few.
+     */
+    private static final class Bucket<T> {
+        T[] entries;
+        int size = 0;
+
+        Bucket(T[] entries) {
+            this.entries = entries;
+        }
+
+        boolean add(T entry) {
+            for (int i = 0; i < size; i++) {
+                if (entries[i] == entry) {
+                    return false;
+                }
+            }
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = entry;
+            return true;
+        }
+
+        boolean remove(T entry) {
+            for (int i = 0; i < size; i++) {
+                if (entries[i] == entry) {
+                    entries[i] = entries[--size];
+                    entries[size] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
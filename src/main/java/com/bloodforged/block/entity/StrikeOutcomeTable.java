@@ -0,0 +1,306 @@
+package com.bloodforged.block.entity;
+
+import it.unimi.dsi.fastutil.HashCommon;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Precomputed outcome distribution of a whole smithing session.
+ *
+ * CONCEPT:
+ * A session is a series of strikes, each landing in one of the anvil's tiers
+ * (AnvilBlockEntity.STRIKE_*), until progress reaches 100. For a striker with a
+ * known accuracy profile the tier odds are fixed, so the session is a Markov
+ * chain over (progress, quality) - small enough to solve exactly:
+ *   100 progress values x 121 quality values = 12,100 states
+ *
+ * The table walks that chain strike by strike (progress and quality after N
+ * strikes), collecting the probability of finishing at strike N with each final
+ * quality. Those (strikes, quality) outcomes go into an alias table, so drawing
+ * a finished session costs one hash and two array reads, however long the
+ * session would have been to play out.
+ *
+ * DETERMINISM:
+ * sample(seed) is a pure function of the seed - the same seed always gives the
+ * same part. No Random object is involved.
+ *
+ * Sessions longer than MAX_STRIKES, and outcomes less likely than CUTOFF, are
+ * dropped and the rest renormalized.
+ */
+public final class StrikeOutcomeTable {
+
+    public static final int MAX_STRIKES = 200;
+    private static final double CUTOFF = 1.0E-9;
+
+    private static final int QUALITY_VALUES = AnvilBlockEntity.MAX_QUALITY + 1;
+
+    // Built tables, per profile (server thread only)
+    private static final Map<AccuracyProfile, StrikeOutcomeTable> TABLES = new HashMap<>();
+
+    /**
+     * Accuracy of a striker: every strike lands uniformly in [min, max].
+     */
+    public record AccuracyProfile(float min, float max) {
+
+        public AccuracyProfile {
+            if (!(0.0f <= min && min <= max && max <= 1.0f)) {
+                throw new IllegalArgumentException("Invalid accuracy range [" + min + ", " + max + "]");
+            }
+        }
+
+        /**
+         * Odds of each strike tier (best first), from the anvil's accuracy thresholds.
+         */
+        public double[] tierOdds() {
+            double[] odds = new double[AnvilBlockEntity.STRIKE_TIERS];
+            if (max == min) {
+                odds[AnvilBlockEntity.strikeTier(min)] = 1.0;
+                return odds;
+            }
+
+            // Tier t covers accuracies [STRIKE_ACCURACY[t], upper), upper = previous threshold (or 1)
+            double upper = Double.POSITIVE_INFINITY;
+            for (int tier = 0; tier < odds.length; tier++) {
+                double lower = tier == odds.length - 1 ? Double.NEGATIVE_INFINITY : AnvilBlockEntity.STRIKE_ACCURACY[tier];
+                double overlap = Math.min(max, upper) - Math.max(min, lower);
+                odds[tier] = Math.max(0.0, overlap) / (max - min);
+                upper = lower;
+            }
+            return odds;
+        }
+    }
+
+    // Outcomes, parallel arrays
+    private final int[] strikes;
+    private final int[] qualities;
+    private final double[] odds;
+
+    // Alias table over the outcomes
+    private final float[] threshold;
+    private final int[] alias;
+
+    private final double expectedStrikes;
+    private final double expectedQuality;
+
+    private StrikeOutcomeTable(int[] strikes, int[] qualities, double[] odds) {
+        this.strikes = strikes;
+        this.qualities = qualities;
+        this.odds = odds;
+
+        int n = odds.length;
+        this.threshold = new float[n];
+        this.alias = new int[n];
+        buildAlias(odds, threshold, alias);
+
+        double meanStrikes = 0;
+        double meanQuality = 0;
+        for (int i = 0; i < n; i++) {
+            meanStrikes += odds[i] * strikes[i];
+            meanQuality += odds[i] * qualities[i];
+        }
+        this.expectedStrikes = meanStrikes;
+        this.expectedQuality = meanQuality;
+    }
+
+    // === BUILDING ===
+
+    /**
+     * Table for a profile, built on first use.
+     */
+    public static StrikeOutcomeTable forProfile(AccuracyProfile profile) {
+        return TABLES.computeIfAbsent(profile, StrikeOutcomeTable::build);
+    }
+
+    /**
+     * Solve the session chain for a profile.
+     *
+     * @throws IllegalArgumentException if the profile can never finish a part
+     */
+    public static StrikeOutcomeTable build(AccuracyProfile profile) {
+        double[] tierOdds = profile.tierOdds();
+        int maxProgress = AnvilBlockEntity.MAX_PROGRESS;
+
+        // Mass per unfinished state [progress * QUALITY_VALUES + quality]
+        double[] current = new double[maxProgress * QUALITY_VALUES];
+        double[] next = new double[current.length];
+        current[AnvilBlockEntity.START_QUALITY] = 1.0;
+
+        // Mass finishing at [strike][quality]
+        double[][] finished = new double[MAX_STRIKES + 1][];
+
+        for (int strike = 1; strike <= MAX_STRIKES; strike++) {
+            Arrays.fill(next, 0.0);
+            double[] done = null;
+            double remaining = 0;
+
+            for (int state = 0; state < current.length; state++) {
+                double mass = current[state];
+                if (mass == 0) {
+                    continue;
+                }
+                int progress = state / QUALITY_VALUES;
+                int quality = state % QUALITY_VALUES;
+
+                // Same rules as AnvilBlockEntity.handleHammerStrike
+                for (int tier = 0; tier < tierOdds.length; tier++) {
+                    if (tierOdds[tier] == 0) {
+                        continue;
+                    }
+                    double moved = mass * tierOdds[tier];
+                    int newProgress = progress + AnvilBlockEntity.STRIKE_PROGRESS[tier];
+                    int newQuality = Math.max(0, Math.min(AnvilBlockEntity.MAX_QUALITY,
+                            quality + AnvilBlockEntity.STRIKE_QUALITY[tier]));
+
+                    if (newProgress >= maxProgress) {
+                        if (done == null) {
+                            done = new double[QUALITY_VALUES];
+                        }
+                        done[newQuality] += moved;
+                    } else {
+                        next[newProgress * QUALITY_VALUES + newQuality] += moved;
+                        remaining += moved;
+                    }
+                }
+            }
+
+            finished[strike] = done;
+            double[] swap = current;
+            current = next;
+            next = swap;
+            if (remaining < CUTOFF) {
+                break;
+            }
+        }
+
+        // Flatten the non-negligible outcomes
+        int count = 0;
+        double total = 0;
+        for (double[] done : finished) {
+            if (done != null) {
+                for (double mass : done) {
+                    if (mass >= CUTOFF) {
+                        count++;
+                        total += mass;
+                    }
+                }
+            }
+        }
+        if (count == 0) {
+            throw new IllegalArgumentException("Accuracy profile " + profile + " never finishes a part");
+        }
+
+        int[] strikes = new int[count];
+        int[] qualities = new int[count];
+        double[] odds = new double[count];
+        int i = 0;
+        for (int strike = 0; strike < finished.length; strike++) {
+            double[] done = finished[strike];
+            if (done == null) {
+                continue;
+            }
+            for (int quality = 0; quality < QUALITY_VALUES; quality++) {
+                if (done[quality] >= CUTOFF) {
+                    strikes[i] = strike;
+                    qualities[i] = quality;
+                    odds[i] = done[quality] / total;
+                    i++;
+                }
+            }
+        }
+        return new StrikeOutcomeTable(strikes, qualities, odds);
+    }
+
+    /**
+     * Vose's alias method: column i keeps its own outcome with probability
+     * threshold[i] and hands the rest to alias[i].
+     */
+    private static void buildAlias(double[] odds, float[] threshold, int[] alias) {
+        int n = odds.length;
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = odds[i] * n;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            threshold[less] = (float) scaled[less];
+            alias[less] = more;
+
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Whatever is left is 1 up to rounding
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            threshold[index] = 1.0f;
+            alias[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            threshold[index] = 1.0f;
+            alias[index] = index;
+        }
+    }
+
+    // === SAMPLING ===
+
+    /**
+     * Draw a finished session. O(1), allocation-free, deterministic in the seed.
+     *
+     * @return Outcome index, for strikes() and quality()
+     */
+    public int sample(long seed) {
+        long bits = HashCommon.mix(seed);
+        int column = (int) (((bits >>> 32) * alias.length) >>> 32);
+        float coin = (bits & 0xFFFFFF) / (float) (1 << 24);
+        return coin < threshold[column] ? column : alias[column];
+    }
+
+    /**
+     * Strikes the session took.
+     */
+    public int strikes(int outcome) {
+        return strikes[outcome];
+    }
+
+    /**
+     * Final quality of the part.
+     */
+    public int quality(int outcome) {
+        return qualities[outcome];
+    }
+
+    public double odds(int outcome) {
+        return odds[outcome];
+    }
+
+    public int outcomeCount() {
+        return odds.length;
+    }
+
+    public double getExpectedStrikes() {
+        return expectedStrikes;
+    }
+
+    public double getExpectedQuality() {
+        return expectedQuality;
+    }
+}
@@ -0,0 +1,250 @@
+package com.bloodforged.command;
+
+import com.bloodforged.BloodForged;
+import com.bloodforged.block.entity.DensityGovernor;
+import com.bloodforged.material.FreezeBenchmark;
+import com.bloodforged.material.MaterialRegistry;
+import com.bloodforged.material.MaterialSnapshot;
+import com.bloodforged.tool.BalanceSimulator;
+import com.bloodforged.tool.ToolCombinationTable;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import net.minecraft.util.Util;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Registry for the /bloodforged command tree.
+ *
+ * COMMANDS:
+ * /bloodforged balance [qualityStep] - Run the balance simulator (ops only)
+ * /bloodforged hotspots [count]      - Densest chunks and owners of machines (ops only)
+ * /bloodforged benchmark freeze [materials] - Time a freeze of synthetic materials (ops only)
+ * /bloodforged benchmark table [materials]  - Build time and size of the tool combination table (ops only)
+ *
+ * Long-running work never runs on the server thread: it is started on a
+ * background thread, and the result is sent back with server.execute().
+ */
+public class ModCommands {
+
+    // Only one balance run at a time - it uses every core
+    private static final AtomicBoolean BALANCE_RUNNING = new AtomicBoolean();
+
+    // Freeze benchmark: one cold run, then the best of the rest
+    private static final int BENCHMARK_RUNS = 6;
+
+    /**
+     * Register all commands.
+     * Called during mod initialization.
+     */
+    public static void registerCommands() {
+        BloodForged.LOGGER.info("Registering commands for " + BloodForged.MOD_ID);
+
+        CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) ->
+                register(dispatcher));
+    }
+
+    private static void register(CommandDispatcher<ServerCommandSource> dispatcher) {
+        dispatcher.register(CommandManager.literal(BloodForged.MOD_ID)
+                .then(CommandManager.literal("balance")
+                        .requires(source -> source.hasPermissionLevel(2))
+                        .executes(context -> runBalance(context, 10))
+                        .then(CommandManager.argument("qualityStep", IntegerArgumentType.integer(1, 120))
+                                .executes(context -> runBalance(context,
+                                        IntegerArgumentType.getInteger(context, "qualityStep")))))
+                .then(CommandManager.literal("hotspots")
+                        .requires(source -> source.hasPermissionLevel(2))
+                        .executes(context -> runHotspots(context, 10))
+                        .then(CommandManager.argument("count", IntegerArgumentType.integer(1, 100))
+                                .executes(context -> runHotspots(context,
+                                        IntegerArgumentType.getInteger(context, "count")))))
+                .then(CommandManager.literal("benchmark")
+                        .requires(source -> source.hasPermissionLevel(2))
+                        .then(CommandManager.literal("freeze")
+                                .executes(context -> runFreezeBenchmark(context, 1000))
+                                .then(CommandManager.argument("materials", IntegerArgumentType.integer(1, 20000))
+                                        .executes(context -> runFreezeBenchmark(context,
+                                                IntegerArgumentType.getInteger(context, "materials")))))
+                        .then(CommandManager.literal("table")
+                                .executes(context -> runTableBenchmark(context, 50))
+                                .then(CommandManager.argument("materials", IntegerArgumentType.integer(1, 20000))
+                                        .executes(context -> runTableBenchmark(context,
+                                                IntegerArgumentType.getInteger(context, "materials")))))));
+    }
+
+    // === BALANCE ===
+
+    private static int runBalance(CommandContext<ServerCommandSource> context, int qualityStep) {
+        ServerCommandSource source = context.getSource();
+        MinecraftServer server = source.getServer();
+
+        if (!BALANCE_RUNNING.compareAndSet(false, true)) {
+            source.sendError(Text.literal("A balance simulation is already running"));
+            return 0;
+        }
+
+        BalanceSimulator simulator = new BalanceSimulator(MaterialRegistry.INSTANCE.snapshot(false), qualityStep);
+        Path outputDir = server.getRunDirectory().resolve(BloodForged.MOD_ID).resolve("balance");
+        source.sendFeedback(() -> Text.literal("Balance simulation started (quality step " + qualityStep + ")..."), true);
+
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return simulator.run(outputDir);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }, ModCommands::startBalanceThread).whenComplete((result, error) -> {
+            BALANCE_RUNNING.set(false);
+            server.execute(() -> {
+                if (error != null) {
+                    BloodForged.LOGGER.error("Balance simulation failed", error);
+                    source.sendError(Text.literal("Balance simulation failed: " + error.getMessage()));
+                    return;
+                }
+                source.sendFeedback(() -> Text.literal(String.format(
+                        "Balance simulation done: %,d combinations, %d on the Pareto front, %d ms -> %s",
+                        result.combinations(), result.paretoSize(), result.elapsedMs(), outputDir))
+                        .formatted(Formatting.GREEN), true);
+            });
+        });
+
+        return 1;
+    }
+
+    // === HOTSPOTS ===
+
+    /**
+     * List the chunks and owners with the most governed machines, across all worlds.
+     * Owners are counted server-wide, so each is listed once.
+     */
+    private static int runHotspots(CommandContext<ServerCommandSource> context, int count) {
+        ServerCommandSource source = context.getSource();
+        MinecraftServer server = source.getServer();
+
+        List<DensityGovernor.Hotspot> chunks = new ArrayList<>();
+        for (DensityGovernor governor : DensityGovernor.all()) {
+            chunks.addAll(governor.chunkHotspots(1));
+        }
+        List<DensityGovernor.Hotspot> players = DensityGovernor.playerHotspots(1);
+        if (chunks.isEmpty()) {
+            source.sendFeedback(() -> Text.literal("No BloodForged machines are loaded"), false);
+            return 0;
+        }
+
+        Comparator<DensityGovernor.Hotspot> densest = Comparator.comparingInt(DensityGovernor.Hotspot::count).reversed();
+        chunks.sort(densest);
+        players.sort(densest);
+
+        source.sendFeedback(() -> Text.literal(String.format("Densest chunks (limits: warn %d, throttle above %d):",
+                DensityGovernor.CHUNK_SOFT_LIMIT, DensityGovernor.CHUNK_HARD_LIMIT)).formatted(Formatting.GOLD), false);
+        for (DensityGovernor.Hotspot hotspot : chunks.subList(0, Math.min(count, chunks.size()))) {
+            String line = String.format("  %s chunk [%d, %d]: %d machines",
+                    hotspot.world().getRegistryKey().getValue(), hotspot.chunk().x, hotspot.chunk().z, hotspot.count());
+            source.sendFeedback(() -> describe(line, hotspot), false);
+        }
+
+        source.sendFeedback(() -> Text.literal(String.format("Top owners, all worlds (limits: warn %d, throttle above %d):",
+                DensityGovernor.PLAYER_SOFT_LIMIT, DensityGovernor.PLAYER_HARD_LIMIT)).formatted(Formatting.GOLD), false);
+        for (DensityGovernor.Hotspot hotspot : players.subList(0, Math.min(count, players.size()))) {
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(hotspot.player());
+            String name = player != null ? player.getName().getString() : hotspot.player().toString();
+            String line = String.format("  %s: %d machines", name, hotspot.count());
+            source.sendFeedback(() -> describe(line, hotspot), false);
+        }
+
+        return chunks.size();
+    }
+
+    // === BENCHMARK ===
+
+    /**
+     * Freeze synthetic materials off the server thread and report the time
+     * against StatDerivation's budget.
+     */
+    private static int runFreezeBenchmark(CommandContext<ServerCommandSource> context, int materials) {
+        ServerCommandSource source = context.getSource();
+        MinecraftServer server = source.getServer();
+
+        source.sendFeedback(() -> Text.literal("Freezing " + materials + " synthetic materials..."), false);
+
+        CompletableFuture.supplyAsync(() -> FreezeBenchmark.run(materials, BENCHMARK_RUNS), Util.getMainWorkerExecutor())
+                .whenComplete((result, error) -> server.execute(() -> {
+                    if (error != null) {
+                        BloodForged.LOGGER.error("Freeze benchmark failed", error);
+                        source.sendError(Text.literal("Freeze benchmark failed: " + error.getMessage()));
+                        return;
+                    }
+                    String line = String.format("Froze %,d materials (%,d derived stats): cold %.2f ms, warm %.2f ms (budget %d ms)",
+                            result.materials(), result.stats(), result.coldNanos() / 1e6, result.warmNanos() / 1e6,
+                            result.budgetNanos() / 1_000_000);
+                    BloodForged.LOGGER.info(line);
+                    source.sendFeedback(() -> Text.literal(line)
+                            .formatted(result.withinBudget() ? Formatting.GREEN : Formatting.RED), false);
+                }));
+
+        return 1;
+    }
+
+    /**
+     * Build a tool combination table for synthetic materials off the server thread
+     * and report its build time and size. The table is not published.
+     */
+    private static int runTableBenchmark(CommandContext<ServerCommandSource> context, int materials) {
+        ServerCommandSource source = context.getSource();
+        MinecraftServer server = source.getServer();
+
+        source.sendFeedback(() -> Text.literal("Building a combination table for " + materials + " synthetic materials..."), false);
+
+        CompletableFuture.supplyAsync(() -> {
+            MaterialSnapshot snapshot = FreezeBenchmark.snapshot(materials);
+            long start = System.nanoTime();
+            ToolCombinationTable table = ToolCombinationTable.build(snapshot);
+            long elapsed = System.nanoTime() - start;
+            return table == null
+                    ? String.format("Combination table for %,d materials would exceed the memory cap (%,d KiB)",
+                            materials, ToolCombinationTable.estimateBytes(materials) / 1024)
+                    : String.format("Combination table for %,d materials: %,d KiB, built in %.2f ms",
+                            materials, ToolCombinationTable.estimateBytes(materials) / 1024, elapsed / 1e6);
+        }, Util.getMainWorkerExecutor()).whenComplete((line, error) -> server.execute(() -> {
+            if (error != null) {
+                BloodForged.LOGGER.error("Combination table benchmark failed", error);
+                source.sendError(Text.literal("Combination table benchmark failed: " + error.getMessage()));
+                return;
+            }
+            BloodForged.LOGGER.info(line);
+            source.sendFeedback(() -> Text.literal(line).formatted(Formatting.GREEN), false);
+        }));
+
+        return 1;
+    }
+
+    private static Text describe(String line, DensityGovernor.Hotspot hotspot) {
+        if (hotspot.throttled() > 0) {
+            return Text.literal(line + ", " + hotspot.throttled() + " throttled").formatted(Formatting.RED);
+        }
+        return Text.literal(line);
+    }
+
+    /**
+     * Dedicated thread for the simulator's fork-join driver, so it never
+     * occupies a worker of the common pool or Minecraft's worker pool.
+     */
+    private static void startBalanceThread(Runnable task) {
+        Thread thread = new Thread(task, "BloodForged Balance");
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
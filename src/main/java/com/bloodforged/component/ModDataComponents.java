@@ -1,11 +1,14 @@
 package com.bloodforged.component;
 
 import com.bloodforged.BloodForged;
+import com.bloodforged.tool.AssembledToolStats;
+import com.bloodforged.tool.PartWear;
 import com.mojang.serialization.Codec;
 import net.minecraft.component.ComponentType;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.Registry;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.Unit;
 
 /**Custom data components for items.*/
 public class ModDataComponents {
@@ -84,6 +87,68 @@ public class ModDataComponents {
                     .build()
     );
 
+    /**
+     * TOOL_STATS component - final stats of an assembled modular tool
+     *
+     * Computed once by ToolAssembly when the parts are combined:
+     * - Which material + quality each part (blade, handle, guard) has
+     * - Combined durability, attack damage, attack speed, mining speed, mining level
+     *
+     * Attacks, block breaking and tooltips read this directly,
+     * instead of redoing registry lookups and quality math every time.
+     */
+    public static final ComponentType<AssembledToolStats> TOOL_STATS = Registry.register(
+            Registries.DATA_COMPONENT_TYPE,
+            Identifier.of(BloodForged.MOD_ID, "tool_stats"),
+            ComponentType.<AssembledToolStats>builder()
+                    .codec(AssembledToolStats.CODEC)
+                    .build()
+    );
+
+    /**
+     * PART_WEAR component - wear taken by each part of a modular tool
+     *
+     * Mining wears the blade, hitting wears the guard.
+     * Written in batches by ToolWear (every few uses, on unequip, on save),
+     * so a busy tool doesn't copy its components on every block break.
+     */
+    public static final ComponentType<PartWear> PART_WEAR = Registry.register(
+            Registries.DATA_COMPONENT_TYPE,
+            Identifier.of(BloodForged.MOD_ID, "part_wear"),
+            ComponentType.<PartWear>builder()
+                    .codec(PartWear.CODEC)
+                    .build()
+    );
+
+    /**
+     * TOOL_ID component - random id of one modular tool
+     *
+     * Given on first use. ToolWear keys its pending (not yet written) wear on it,
+     * because the stack object itself does not survive inventory clicks:
+     * moving a stack copies it. Copies keep the id, so the wear follows the tool.
+     */
+    public static final ComponentType<Long> TOOL_ID = Registry.register(
+            Registries.DATA_COMPONENT_TYPE,
+            Identifier.of(BloodForged.MOD_ID, "tool_id"),
+            ComponentType.<Long>builder()
+                    .codec(Codec.LONG)
+                    .build()
+    );
+
+    /**
+     * UNWASHED component - dust straight out of a crusher
+     *
+     * Crushed ore still carries rock and clay. It has to go through a washer
+     * before the open furnace will smelt it. The washer simply removes this marker.
+     */
+    public static final ComponentType<Unit> UNWASHED = Registry.register(
+            Registries.DATA_COMPONENT_TYPE,
+            Identifier.of(BloodForged.MOD_ID, "unwashed"),
+            ComponentType.<Unit>builder()
+                    .codec(Unit.CODEC)
+                    .build()
+    );
+
     /**
      * Register all components.
      * Called during mod initialization.
@@ -1,9 +1,13 @@
 package com.bloodforged.item;
 
 import com.bloodforged.BloodForged;
+import com.bloodforged.material.ExampleMaterials;
+import com.bloodforged.material.MaterialForm;
+import com.bloodforged.material.MaterialRegistry;
 import net.fabricmc.fabric.api.itemgroup.v1.ItemGroupEvents;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemGroups;
+import net.minecraft.item.Items;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.Registry;
 import net.minecraft.registry.RegistryKey;
@@ -36,14 +40,19 @@ public class ModItems {
     // === TOOL PARTS ===
 
     public static final Item TOOL_BLADE = register("tool_blade",
-            new ToolPartItem(new Item.Settings().registryKey(keyOf("tool_blade")), "blade"));
+            new ToolPartItem(new Item.Settings().registryKey(keyOf("tool_blade")), ToolPartItem.BLADE));
 
     public static final Item TOOL_HANDLE = register("tool_handle",
-            new ToolPartItem(new Item.Settings().registryKey(keyOf("tool_handle")), "handle"));
+            new ToolPartItem(new Item.Settings().registryKey(keyOf("tool_handle")), ToolPartItem.HANDLE));
 
     public static final Item TOOL_GUARD = register("tool_guard",
-            new ToolPartItem(new Item.Settings().registryKey(keyOf("tool_guard")), "guard"));
+            new ToolPartItem(new Item.Settings().registryKey(keyOf("tool_guard")), ToolPartItem.GUARD));
 
+    // === TOOLS ===
+
+    // Assembled from blade + handle + guard, stats stored in ModDataComponents.TOOL_STATS
+    public static final Item MODULAR_TOOL = register("modular_tool",
+            new ModularToolItem(new Item.Settings().registryKey(keyOf("modular_tool")).maxCount(1)));
 
     // === HELPER METHODS ===
 
@@ -59,9 +68,40 @@ public class ModItems {
         return Registry.register(Registries.ITEM, Identifier.of(BloodForged.MOD_ID, name), item);
     }
 
+    /**
+     * Link metal items to their material, so any stack can be classified
+     * with one lookup (see MaterialRegistry.classify).
+     * Vanilla iron and copper count as well.
+     */
+    private static void registerMaterialItems() {
+        MaterialRegistry registry = MaterialRegistry.INSTANCE;
+
+        registry.registerItem(RAW_COPPER, ExampleMaterials.COPPER, MaterialForm.RAW);
+        registry.registerItem(COPPER_DUST, ExampleMaterials.COPPER, MaterialForm.DUST);
+        registry.registerItem(COPPER_INGOT, ExampleMaterials.COPPER, MaterialForm.INGOT);
+        registry.registerItem(Items.RAW_COPPER, ExampleMaterials.COPPER, MaterialForm.RAW);
+        registry.registerItem(Items.COPPER_INGOT, ExampleMaterials.COPPER, MaterialForm.INGOT);
+
+        registry.registerItem(RAW_TIN, ExampleMaterials.TIN, MaterialForm.RAW);
+        registry.registerItem(TIN_DUST, ExampleMaterials.TIN, MaterialForm.DUST);
+        registry.registerItem(TIN_INGOT, ExampleMaterials.TIN, MaterialForm.INGOT);
+
+        registry.registerItem(BRONZE_DUST, ExampleMaterials.BRONZE, MaterialForm.DUST);
+        registry.registerItem(BRONZE_INGOT, ExampleMaterials.BRONZE, MaterialForm.INGOT);
+
+        registry.registerItem(IRON_DUST, ExampleMaterials.IRON, MaterialForm.DUST);
+        registry.registerItem(Items.RAW_IRON, ExampleMaterials.IRON, MaterialForm.RAW);
+        registry.registerItem(Items.IRON_INGOT, ExampleMaterials.IRON, MaterialForm.INGOT);
+
+        registry.registerItem(STEEL_DUST, ExampleMaterials.STEEL, MaterialForm.DUST);
+        registry.registerItem(STEEL_INGOT, ExampleMaterials.STEEL, MaterialForm.INGOT);
+    }
+
     public static void registerModItems() {
         BloodForged.LOGGER.info("Registering items for " + BloodForged.MOD_ID);
 
+        registerMaterialItems();
+
         ItemGroupEvents.modifyEntriesEvent(ItemGroups.INGREDIENTS).register(entries -> {
             entries.add(RAW_COPPER);
             entries.add(COPPER_INGOT);
@@ -81,5 +121,8 @@ public class ModItems {
             entries.add(TOOL_HANDLE);
             entries.add(TOOL_GUARD);
         });
+
+        // The tool itself only exists assembled (it has no stats on its own),
+        // so it is not added to any creative tab.
     }
 }
\ No newline at end of file
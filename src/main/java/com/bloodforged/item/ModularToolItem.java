@@ -0,0 +1,134 @@
+package com.bloodforged.item;
+
+import com.bloodforged.component.ModDataComponents;
+import com.bloodforged.tool.AssembledToolStats;
+import com.bloodforged.tool.ToolMiningTable;
+import com.bloodforged.tool.PartWear;
+import com.bloodforged.tool.ToolPart;
+import com.bloodforged.tool.ToolWear;
+import net.minecraft.block.BlockState;
+import net.minecraft.component.type.TooltipDisplayComponent;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EquipmentSlot;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.inventory.StackReference;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.tooltip.TooltipType;
+import net.minecraft.screen.slot.Slot;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.text.Text;
+import net.minecraft.util.ClickType;
+import net.minecraft.util.Formatting;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * A tool assembled from a blade, handle and guard.
+ *
+ * All stats live in the TOOL_STATS component, computed once by ToolAssembly.
+ * This class only ever reads that component - no registry lookups, no quality math.
+ */
+public class ModularToolItem extends Item {
+
+    public ModularToolItem(Settings settings) {
+        super(settings);
+    }
+
+    // === MINING ===
+    // Called every tick while digging: one component read + one bit test (see ToolMiningTable)
+
+    @Override
+    public float getMiningSpeed(ItemStack stack, BlockState state) {
+        AssembledToolStats stats = stack.get(ModDataComponents.TOOL_STATS);
+        return stats != null ? ToolMiningTable.getMiningSpeed(stats.miningSpeed(), state) : 1.0f;
+    }
+
+    @Override
+    public boolean isCorrectForDrops(ItemStack stack, BlockState state) {
+        AssembledToolStats stats = stack.get(ModDataComponents.TOOL_STATS);
+        return stats != null && ToolMiningTable.isCorrectForDrops(stats.miningLevel(), state);
+    }
+
+    // === USE ===
+    // Wear is batched by ToolWear instead of damaging the stack on every use
+
+    @Override
+    public void postHit(ItemStack stack, LivingEntity target, LivingEntity attacker) {
+        ToolWear.onHit(stack, attacker);
+    }
+
+    @Override
+    public boolean postMine(ItemStack stack, World world, BlockState state, BlockPos pos, LivingEntity miner) {
+        if (!world.isClient && state.getHardness(world, pos) != 0.0f) {
+            ToolWear.onMine(stack, miner);
+        }
+        return true;
+    }
+
+    @Override
+    public void inventoryTick(ItemStack stack, ServerWorld world, Entity entity, @Nullable EquipmentSlot slot) {
+        // Left the main hand - write pending wear now
+        if (slot != EquipmentSlot.MAINHAND) {
+            ToolWear.flush(stack, world, entity instanceof ServerPlayerEntity player ? player : null);
+        }
+    }
+
+    // Clicked in a screen (as the slot's stack, or as the cursor stack) - it is about
+    // to be moved, so write pending wear while this is still the stack that holds it
+
+    @Override
+    public boolean onStackClicked(ItemStack stack, Slot slot, ClickType clickType, PlayerEntity player) {
+        if (player instanceof ServerPlayerEntity serverPlayer) {
+            ToolWear.flush(stack, serverPlayer.getServerWorld(), serverPlayer);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean onClicked(ItemStack stack, ItemStack otherStack, Slot slot, ClickType clickType,
+                             PlayerEntity player, StackReference cursorStackReference) {
+        if (player instanceof ServerPlayerEntity serverPlayer) {
+            ToolWear.flush(stack, serverPlayer.getServerWorld(), serverPlayer);
+        }
+        return false;
+    }
+
+    // === TOOLTIP ===
+
+    @Override
+    @SuppressWarnings("deprecation") // TODO: Update when new tooltip API is stable
+    public void appendTooltip(ItemStack stack, TooltipContext context, TooltipDisplayComponent displayComponent, Consumer<Text> textConsumer, TooltipType type) {
+        super.appendTooltip(stack, context, displayComponent, textConsumer, type);
+
+        AssembledToolStats stats = stack.get(ModDataComponents.TOOL_STATS);
+        if (stats == null) {
+            return;
+        }
+
+        // Parts
+        appendPart(textConsumer, "Blade", stats.blade());
+        appendPart(textConsumer, "Handle", stats.handle());
+        appendPart(textConsumer, "Guard", stats.guard());
+
+        // Wear per part
+        PartWear wear = stack.get(ModDataComponents.PART_WEAR);
+        if (wear != null && wear.total() > 0) {
+            textConsumer.accept(Text.literal("Wear: blade " + wear.blade() + ", guard " + wear.guard()).formatted(Formatting.DARK_GRAY));
+        }
+
+        // Stats
+        textConsumer.accept(Text.literal(String.format("Damage: %.1f", stats.attackDamage())).formatted(Formatting.DARK_GREEN));
+        textConsumer.accept(Text.literal(String.format("Speed: x%.2f", stats.attackSpeed())).formatted(Formatting.DARK_GREEN));
+        textConsumer.accept(Text.literal(String.format("Mining: %.1f (level %d)", stats.miningSpeed(), stats.miningLevel())).formatted(Formatting.DARK_GREEN));
+    }
+
+    private void appendPart(Consumer<Text> textConsumer, String label, ToolPart part) {
+        textConsumer.accept(Text.literal(label + ": " + part.material() + " (" + part.quality() + "%)").formatted(Formatting.GRAY));
+    }
+}
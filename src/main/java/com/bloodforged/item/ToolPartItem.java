@@ -1,6 +1,7 @@
 package com.bloodforged.item;
 
 import com.bloodforged.component.ModDataComponents;
+import com.bloodforged.tool.PartWear;
 import net.minecraft.component.type.TooltipDisplayComponent;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -12,6 +13,11 @@ import java.util.function.Consumer;
 
 public class ToolPartItem extends Item {
 
+    // Part types
+    public static final String BLADE = "blade";
+    public static final String HANDLE = "handle";
+    public static final String GUARD = "guard";
+
     private final String partType; // "blade", "handle", "guard"
 
     public ToolPartItem(Settings settings, String partType) {
@@ -36,6 +42,12 @@ public class ToolPartItem extends Item {
             Formatting color = getQualityColor(quality);
             textConsumer.accept(Text.literal("Quality: " + quality + "%").formatted(color));
         }
+
+        // Show wear taken on a tool (blades and guards only)
+        PartWear wear = stack.get(ModDataComponents.PART_WEAR);
+        if (wear != null && wear.total() > 0) {
+            textConsumer.accept(Text.literal("Wear: " + wear.total()).formatted(Formatting.DARK_GRAY));
+        }
     }
 
     private Formatting getQualityColor(int quality) {
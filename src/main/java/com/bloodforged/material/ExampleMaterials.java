@@ -1,5 +1,8 @@
 package com.bloodforged.material;
 
+import com.bloodforged.tool.AssembledToolStats;
+import com.bloodforged.tool.ToolAssembly;
+import com.bloodforged.tool.ToolPart;
 import net.minecraft.util.Identifier;
 
 /**
@@ -17,16 +20,67 @@ public class ExampleMaterials {
     public static final Identifier PART_HANDLE = Identifier.of("bloodforged", "handle");
     public static final Identifier PART_GUARD = Identifier.of("bloodforged", "guard");
     
+    // Material identifiers
+    public static final Identifier COPPER = Identifier.of("bloodforged", "copper");
+    public static final Identifier TIN = Identifier.of("bloodforged", "tin");
+    public static final Identifier BRONZE = Identifier.of("bloodforged", "bronze");
+    public static final Identifier IRON = Identifier.of("bloodforged", "iron");
+    public static final Identifier STEEL = Identifier.of("bloodforged", "steel");
+    
     /**
      * Register all example materials.
      * This would be called during mod initialization.
      */
     public static void register() {
+        registerCopper();
+        registerTin();
         registerBronze();
         registerIron();
         registerSteel();
     }
     
+    /**
+     * COPPER - Base metal for bronze
+     * 
+     * Properties:
+     * - Hardness: 3.0 (soft, edges dull fast)
+     * - Toughness: 4.5 (bends rather than breaks)
+     * - Flexibility: 6.0 (very workable)
+     * - Density: 8.0 (heavy)
+     * 
+     * No hand-written stats: part stats are derived from the properties above.
+     * Tier: 1 (copper/bronze tier)
+     */
+    private static void registerCopper() {
+        MaterialRegistry.builder("bloodforged", "copper")
+            .displayName("Copper")
+            .tier(1)
+            .properties(3.0f, 4.5f, 6.0f, 8.0f)
+            .color(0xB87333) // Copper color
+            .build();
+    }
+    
+    /**
+     * TIN - Alloying metal for bronze
+     * 
+     * Properties:
+     * - Hardness: 1.5 (very soft)
+     * - Toughness: 2.5 (weak)
+     * - Flexibility: 7.0 (bends easily)
+     * - Density: 6.5 (lighter than copper)
+     * 
+     * Mostly useful as an alloy ingredient. Stats are derived.
+     * Tier: 0
+     */
+    private static void registerTin() {
+        MaterialRegistry.builder("bloodforged", "tin")
+            .displayName("Tin")
+            .tier(0)
+            .properties(1.5f, 2.5f, 7.0f, 6.5f)
+            .color(0xD3D4D5) // Pale silver
+            .build();
+    }
+    
     /**
      * BRONZE - Early game material
      * 
@@ -187,6 +241,7 @@ public class ExampleMaterials {
     
     /**
      * Example: Calculate stats for a full weapon
+     * Must be called after MaterialRegistry.freeze().
      */
     public static void exampleCalculation() {
         // Let's say we make a sword with:
@@ -194,33 +249,22 @@ public class ExampleMaterials {
         // - Bronze handle (quality 70%)
         // - Iron guard (quality 90%)
         
-        Identifier steelId = Identifier.of("bloodforged", "steel");
-        Identifier bronzeId = Identifier.of("bloodforged", "bronze");
-        Identifier ironId = Identifier.of("bloodforged", "iron");
-        
-        // Get base stats
-        MaterialStats bladeStat = MaterialRegistry.INSTANCE.getStats(steelId, PART_BLADE);
-        MaterialStats handleStat = MaterialRegistry.INSTANCE.getStats(bronzeId, PART_HANDLE);
-        MaterialStats guardStat = MaterialRegistry.INSTANCE.getStats(ironId, PART_GUARD);
-        
-        // Apply quality
-        MaterialStats bladeWithQuality = bladeStat.withQuality(85);
-        MaterialStats handleWithQuality = handleStat.withQuality(70);
-        MaterialStats guardWithQuality = guardStat.withQuality(90);
-        
-        // Combine stats (simple addition for now)
-        int totalDurability = bladeWithQuality.getDurability() 
-            + guardWithQuality.getDurability();
-        
-        float totalDamage = bladeWithQuality.getAttackDamage() 
-            + guardWithQuality.getAttackDamage();
-        
-        float attackSpeed = handleWithQuality.getAttackSpeed();
+        // Same combination math the assembly recipe uses (see ToolAssembly)
+        AssembledToolStats stats = ToolAssembly.compute(
+            MaterialRegistry.INSTANCE.snapshot(false),
+            new ToolPart(STEEL.toString(), 85),
+            new ToolPart(BRONZE.toString(), 70),
+            new ToolPart(IRON.toString(), 90)
+        );
+        if (stats == null) {
+            System.out.println("Missing stats for one of the parts");
+            return;
+        }
         
         System.out.println("=== Crafted Sword Stats ===");
-        System.out.println("Durability: " + totalDurability);
-        System.out.println("Attack Damage: " + totalDamage);
-        System.out.println("Attack Speed: " + attackSpeed);
-        System.out.println("Mining Level: " + bladeWithQuality.getMiningLevel());
+        System.out.println("Durability: " + stats.durability());
+        System.out.println("Attack Damage: " + stats.attackDamage());
+        System.out.println("Attack Speed: " + stats.attackSpeed());
+        System.out.println("Mining Level: " + stats.miningLevel());
     }
 }
@@ -0,0 +1,117 @@
+package com.bloodforged.material;
+
+import net.minecraft.util.Identifier;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Dev-only benchmark for the freeze path, run with /bloodforged benchmark freeze.
+ *
+ * CONCEPT:
+ * StatDerivation promises that 1,000 materials fit in its time budget. This checks
+ * that promise on the machine it runs on: it makes `count` synthetic materials with
+ * random physical properties and no explicit stats, then does what freeze() does with
+ * them - derive every part's stats and compile a MaterialSnapshot.
+ *
+ * The live registry is never touched. The synthetic snapshot is thrown away.
+ *
+ * RUNS:
+ * The first run is cold (interpreted, classes loading). The best of the remaining runs
+ * is what a warmed-up server sees on /reload. Both are reported, next to the budget.
+ */
+public final class FreezeBenchmark {
+
+    private static final String NAMESPACE = "bloodforged_benchmark";
+
+    // Fixed seed, so two runs of the same count see the same materials
+    private static final long SEED = 0xB100DL;
+
+    private FreezeBenchmark() {
+    }
+
+    /**
+     * Timing for one benchmark.
+     *
+     * @param materials   Synthetic materials frozen per run
+     * @param stats       Part stats derived per run
+     * @param coldNanos   First run
+     * @param warmNanos   Best of the remaining runs (same as cold if runs == 1)
+     * @param budgetNanos StatDerivation's budget, for comparison
+     */
+    public record Result(int materials, int stats, long coldNanos, long warmNanos, long budgetNanos) {
+        public boolean withinBudget() {
+            return warmNanos <= budgetNanos;
+        }
+    }
+
+    /**
+     * Freeze `count` synthetic materials `runs` times.
+     *
+     * Safe to call off the server thread once the registry is frozen:
+     * the derivation formulas are only read.
+     */
+    public static Result run(int count, int runs) {
+        Map<Identifier, Material> materials = synthesize(count);
+
+        int stats = 0;
+        long cold = 0;
+        long warm = Long.MAX_VALUE;
+        for (int run = 0; run < Math.max(1, runs); run++) {
+            long start = System.nanoTime();
+            MaterialSnapshot snapshot = freeze(materials);
+            long elapsed = System.nanoTime() - start;
+
+            stats = snapshot.getTotalStats();
+            if (run == 0) {
+                cold = elapsed;
+            } else {
+                warm = Math.min(warm, elapsed);
+            }
+        }
+
+        return new Result(count, stats, cold, warm == Long.MAX_VALUE ? cold : warm, StatDerivation.BUDGET_NANOS);
+    }
+
+    /**
+     * Freeze `count` synthetic materials once and return the snapshot, for
+     * benchmarking things built from snapshots. Never published.
+     */
+    public static MaterialSnapshot snapshot(int count) {
+        return freeze(synthesize(count));
+    }
+
+    /**
+     * Same steps as MaterialRegistry.freeze(): derive, then compile.
+     */
+    private static MaterialSnapshot freeze(Map<Identifier, Material> materials) {
+        Map<Identifier, Map<Identifier, MaterialStats>> byMaterial = new HashMap<>();
+        for (MaterialStats stat : StatDerivation.INSTANCE.deriveMissing(materials, Collections.emptyMap())) {
+            byMaterial.computeIfAbsent(stat.getMaterialId(), k -> new LinkedHashMap<>())
+                .put(stat.getPartType(), stat);
+        }
+        return new MaterialSnapshot(0, materials, byMaterial, Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    /**
+     * Materials spread over the whole property range and tiers 0 - 5.
+     */
+    private static Map<Identifier, Material> synthesize(int count) {
+        Random random = new Random(SEED);
+        Map<Identifier, Material> materials = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            Identifier id = Identifier.of(NAMESPACE, "material_" + i);
+            Material.PhysicalProperties properties = new Material.PhysicalProperties(
+                random.nextFloat() * 10.0f,
+                random.nextFloat() * 10.0f,
+                random.nextFloat() * 10.0f,
+                random.nextFloat() * 10.0f
+            );
+            materials.put(id, new Material(id, "Material " + i, random.nextInt(6), properties, random.nextInt(0xFFFFFF)));
+        }
+        return materials;
+    }
+}
@@ -0,0 +1,43 @@
+package com.bloodforged.material;
+
+import java.util.Objects;
+
+/**
+ * Answer to "what metal is this stack?" - a material plus the form it comes in.
+ *
+ * Instances are created once when the registry is frozen and shared by every
+ * lookup, so classifying a stack never allocates.
+ */
+public final class ItemClassification {
+
+    private final Material material;
+    private final int materialHandle;
+    private final MaterialForm form;
+
+    ItemClassification(Material material, int materialHandle, MaterialForm form) {
+        this.material = Objects.requireNonNull(material, "Material cannot be null");
+        this.materialHandle = materialHandle;
+        this.form = Objects.requireNonNull(form, "Form cannot be null");
+    }
+
+    public Material getMaterial() {
+        return material;
+    }
+
+    /**
+     * Handle of the material in the snapshot this classification came from.
+     * See MaterialSnapshot's primitive API.
+     */
+    public int getMaterialHandle() {
+        return materialHandle;
+    }
+
+    public MaterialForm getForm() {
+        return form;
+    }
+
+    @Override
+    public String toString() {
+        return "ItemClassification{" + material.getId() + ", " + form + "}";
+    }
+}
@@ -0,0 +1,15 @@
+package com.bloodforged.material;
+
+/**
+ * The physical form an item represents for its material.
+ *
+ * Example:
+ * - ModItems.RAW_COPPER   -> copper, RAW
+ * - ModItems.COPPER_DUST  -> copper, DUST
+ * - ModItems.COPPER_INGOT -> copper, INGOT
+ */
+public enum MaterialForm {
+    RAW,    // Straight out of the ground, must be processed
+    DUST,   // Crushed/washed, ready to smelt or alloy
+    INGOT   // Smelted, ready to forge
+}
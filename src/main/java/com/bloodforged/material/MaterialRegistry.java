@@ -1,11 +1,14 @@
 package com.bloodforged.material;
 
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.tag.TagKey;
 import net.minecraft.util.Identifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Central registry for all materials in BloodForged.
@@ -22,8 +25,17 @@ import java.util.concurrent.ConcurrentHashMap;
  * - All materials in one place for easy lookup
  * - Can reload from JSON files
  * 
+ * LIFECYCLE:
+ * 1. BUILD phase  - registerMaterial() / registerStats() / clear() are allowed
+ * 2. freeze()     - compiles everything into immutable MaterialSnapshots
+ * 3. FROZEN phase - writes throw IllegalStateException, reads hit the snapshot
+ * 4. beginReload() - goes back to BUILD phase (e.g. before re-reading JSON)
+ * 
+ * Server and client each get their own frozen snapshot (see MaterialSnapshot).
+ * 
  * USAGE:
  * MaterialRegistry.INSTANCE.getMaterial(Identifier.of("bloodforged", "bronze"))
+ * MaterialRegistry.INSTANCE.snapshot(world.isClient).getStats(materialId, partType)
  */
 public class MaterialRegistry {
     
@@ -32,23 +44,44 @@ public class MaterialRegistry {
     // Singleton instance
     public static final MaterialRegistry INSTANCE = new MaterialRegistry();
     
-    // Storage for materials (thread-safe for safety)
-    private final Map<Identifier, Material> materials = new ConcurrentHashMap<>();
+    // Build-phase storage for materials (only touched during init/reload, on one thread)
+    private final Map<Identifier, Material> materials = new LinkedHashMap<>();
+    
+    // Build-phase storage for material stats (keyed by: materialId -> partType -> stats)
+    private final Map<Identifier, Map<Identifier, MaterialStats>> materialStats = new LinkedHashMap<>();
+    
+    // Build-phase storage for item links (item -> material + form), compiled into an identity index
+    private final Map<Item, ItemLink> itemLinks = new LinkedHashMap<>();
+    
+    // Build-phase storage for tag links (e.g. c:ingots/bronze -> bronze ingot), resolved when tags load
+    private final Map<TagKey<Item>, ItemLink> tagLinks = new LinkedHashMap<>();
     
-    // Storage for material stats (keyed by: materialId -> partType -> stats)
-    private final Map<Identifier, Map<Identifier, MaterialStats>> materialStats = new ConcurrentHashMap<>();
+    // Whether we are in the frozen phase (writes are rejected)
+    private boolean frozen = false;
+    
+    // Source of snapshot versions (snapshots can be compiled from the server and client threads)
+    private final AtomicInteger versionCounter = new AtomicInteger();
+    
+    // Frozen copies, one per side. Swapped as a whole, never mutated.
+    private volatile MaterialSnapshot serverSnapshot;
+    private volatile MaterialSnapshot clientSnapshot;
     
     // Private constructor (singleton pattern)
     private MaterialRegistry() {
         LOGGER.info("Initializing Material Registry");
     }
     
+    // === BUILD PHASE ===
+    
     /**
      * Register a new material.
      * 
      * This would normally be called during mod initialization or from JSON loading.
+     * 
+     * @throws IllegalStateException if the registry is frozen
      */
     public void registerMaterial(Material material) {
+        checkNotFrozen("register material " + material.getId());
         Identifier id = material.getId();
         
         if (materials.containsKey(id)) {
@@ -63,15 +96,18 @@ public class MaterialRegistry {
      * Register stats for a material + part type combination.
      * 
      * Example: Bronze stats for blade part
+     * 
+     * @throws IllegalStateException if the registry is frozen
      */
     public void registerStats(MaterialStats stats) {
         Identifier materialId = stats.getMaterialId();
         Identifier partType = stats.getPartType();
+        checkNotFrozen("register stats " + materialId + "/" + partType);
         
         // Get or create the inner map for this material
         Map<Identifier, MaterialStats> statsForMaterial = materialStats.computeIfAbsent(
             materialId, 
-            k -> new ConcurrentHashMap<>()
+            k -> new LinkedHashMap<>()
         );
         
         if (statsForMaterial.containsKey(partType)) {
@@ -82,12 +118,179 @@ public class MaterialRegistry {
         LOGGER.debug("Registered stats: {}/{}", materialId, partType);
     }
     
+    /**
+     * Link an item to a material and form.
+     * 
+     * Example: registerItem(ModItems.BRONZE_INGOT, bronzeId, MaterialForm.INGOT)
+     * 
+     * The link is resolved at freeze time, so the material may be registered later.
+     * 
+     * @throws IllegalStateException if the registry is frozen
+     */
+    public void registerItem(Item item, Identifier materialId, MaterialForm form) {
+        checkNotFrozen("register item for " + materialId);
+        
+        if (itemLinks.containsKey(item)) {
+            LOGGER.warn("Item {} is already linked to a material! Overwriting...", item);
+        }
+        
+        itemLinks.put(item, new ItemLink(materialId, form));
+    }
+    
+    /**
+     * Link every item in a tag to a material and form.
+     * 
+     * Example: registerTag(MaterialTags.BRONZE_INGOTS, bronzeId, MaterialForm.INGOT)
+     * makes any modpack's bronze ingot count as BloodForged bronze.
+     * 
+     * Tags are only walked when they load (see onTagsLoaded), never per lookup.
+     * Direct item links from registerItem() win over tag links.
+     * 
+     * @throws IllegalStateException if the registry is frozen
+     */
+    public void registerTag(TagKey<Item> tag, Identifier materialId, MaterialForm form) {
+        checkNotFrozen("register tag " + tag.id() + " for " + materialId);
+        
+        if (tagLinks.containsKey(tag)) {
+            LOGGER.warn("Tag {} is already linked to a material! Overwriting...", tag.id());
+        }
+        
+        tagLinks.put(tag, new ItemLink(materialId, form));
+    }
+    
+    /**
+     * Clear all materials and stats.
+     * Used when reloading from JSON (call beginReload() first).
+     * 
+     * @throws IllegalStateException if the registry is frozen
+     */
+    public void clear() {
+        checkNotFrozen("clear");
+        LOGGER.info("Clearing material registry");
+        materials.clear();
+        materialStats.clear();
+        itemLinks.clear();
+        tagLinks.clear();
+    }
+    
+    // === PHASE CHANGES ===
+    
+    /**
+     * Compile the registry into immutable snapshots and reject further writes.
+     * 
+     * Called once at the end of BloodForged.onInitialize(), and again after a reload.
+     * Missing part stats are derived from physical properties first (see StatDerivation),
+     * then two independent copies are built - one for the server, one for the client.
+     */
+    public void freeze() {
+        if (frozen) {
+            LOGGER.warn("Material registry is already frozen");
+            return;
+        }
+        
+        for (MaterialStats derived : StatDerivation.INSTANCE.deriveMissing(materials, materialStats)) {
+            materialStats.computeIfAbsent(derived.getMaterialId(), k -> new LinkedHashMap<>())
+                .put(derived.getPartType(), derived);
+        }
+        
+        // Tags are not loaded yet during init - they are resolved in onTagsLoaded()
+        serverSnapshot = compile(false);
+        clientSnapshot = compile(false);
+        frozen = true;
+        
+        LOGGER.info("Material registry frozen ({})", getStats());
+    }
+    
+    /**
+     * Rebuild the snapshot for one side from the build-phase data.
+     * 
+     * Readers on that side switch to the new snapshot atomically; readers
+     * on the other side are not touched.
+     * 
+     * @param isClient true to rebuild the client copy, false for the server copy
+     */
+    public void recompile(boolean isClient) {
+        if (!frozen) {
+            throw new IllegalStateException("Cannot recompile material snapshot before the registry is frozen");
+        }
+        
+        if (isClient) {
+            clientSnapshot = compile(true);
+        } else {
+            serverSnapshot = compile(true);
+        }
+        LOGGER.debug("Recompiled {} material snapshot", isClient ? "client" : "server");
+    }
+    
+    /**
+     * Go back to the build phase so materials can be re-registered.
+     * 
+     * Existing snapshots stay published until the next freeze(),
+     * so readers never see a half-built registry.
+     */
+    public void beginReload() {
+        LOGGER.info("Material registry reopened for reload");
+        frozen = false;
+    }
+    
+    public boolean isFrozen() {
+        return frozen;
+    }
+    
+    /**
+     * Get the frozen snapshot for one side.
+     * 
+     * @param isClient usually world.isClient
+     * @throws IllegalStateException if the registry was never frozen
+     */
+    public MaterialSnapshot snapshot(boolean isClient) {
+        MaterialSnapshot snapshot = isClient ? clientSnapshot : serverSnapshot;
+        if (snapshot == null) {
+            throw new IllegalStateException("Material registry has not been frozen yet");
+        }
+        return snapshot;
+    }
+    
+    /**
+     * Called when item tags (re)load, e.g. on world join or /reload.
+     * 
+     * Rebuilds that side's item index from the current tag contents and swaps it in
+     * as a whole, so lookups see either the old index or the new one - never a mix.
+     * 
+     * @param isClient true for the client's tags, false for the server's
+     */
+    public void onTagsLoaded(boolean isClient) {
+        if (!frozen) {
+            LOGGER.warn("Tags loaded before the material registry was frozen, skipping item index rebuild");
+            return;
+        }
+        recompile(isClient);
+    }
+    
+    /**
+     * @param resolveTags Whether item tags are bound and can be walked
+     */
+    private MaterialSnapshot compile(boolean resolveTags) {
+        return new MaterialSnapshot(versionCounter.incrementAndGet(), materials, materialStats, itemLinks,
+            resolveTags ? tagLinks : Collections.emptyMap());
+    }
+    
+    private void checkNotFrozen(String action) {
+        if (frozen) {
+            throw new IllegalStateException("Cannot " + action + ": material registry is frozen");
+        }
+    }
+    
+    // === LOOKUPS ===
+    // Before freeze() these read the build-phase maps, afterwards the server snapshot.
+    
     /**
      * Get a material by ID.
      * Returns null if not found.
      */
     public Material getMaterial(Identifier id) {
-        return materials.get(id);
+        MaterialSnapshot snapshot = serverSnapshot;
+        return snapshot != null ? snapshot.getMaterial(id) : materials.get(id);
     }
     
     /**
@@ -95,6 +298,11 @@ public class MaterialRegistry {
      * Returns null if not found.
      */
     public MaterialStats getStats(Identifier materialId, Identifier partType) {
+        MaterialSnapshot snapshot = serverSnapshot;
+        if (snapshot != null) {
+            return snapshot.getStats(materialId, partType);
+        }
+        
         Map<Identifier, MaterialStats> statsForMaterial = materialStats.get(materialId);
         if (statsForMaterial == null) {
             return null;
@@ -102,17 +310,98 @@ public class MaterialRegistry {
         return statsForMaterial.get(partType);
     }
     
+    /**
+     * Find out which material (and form) an item is.
+     * Returns null if the item is not a known material item, or before freeze().
+     * 
+     * Single identity lookup, no allocation - safe for slot checks and hopper transfers.
+     */
+    public ItemClassification classify(Item item) {
+        MaterialSnapshot snapshot = serverSnapshot;
+        return snapshot != null ? snapshot.classify(item) : null;
+    }
+    
+    public ItemClassification classify(ItemStack stack) {
+        return classify(stack.getItem());
+    }
+    
+    // === PRIMITIVE API ===
+    // Zero-allocation queries against the server snapshot, for addons that query on every hit.
+    // Client code should use snapshot(true) instead, which has the same methods.
+    // Handles are only valid for the version they were resolved in - re-resolve when getVersion() changes.
+    
+    /**
+     * Current version of the server snapshot.
+     * 
+     * @throws IllegalStateException if the registry was never frozen
+     */
+    public int getVersion() {
+        return snapshot(false).getVersion();
+    }
+    
+    /**
+     * Get the int handle for a material, or MaterialSnapshot.NO_HANDLE.
+     */
+    public int materialHandle(Identifier materialId) {
+        return snapshot(false).materialHandle(materialId);
+    }
+    
+    /**
+     * Get the int handle for a part type, or MaterialSnapshot.NO_HANDLE.
+     */
+    public int partHandle(Identifier partType) {
+        return snapshot(false).partHandle(partType);
+    }
+    
+    /**
+     * Number of materials. Handles run from 0 to materialCount() - 1,
+     * so a plain for loop iterates them without an iterator.
+     */
+    public int materialCount() {
+        return snapshot(false).materialCount();
+    }
+    
+    public int durability(int mat, int part, int quality) {
+        return snapshot(false).durability(mat, part, quality);
+    }
+    
+    public float attackDamage(int mat, int part, int quality) {
+        return snapshot(false).attackDamage(mat, part, quality);
+    }
+    
+    public float miningSpeed(int mat, int part, int quality) {
+        return snapshot(false).miningSpeed(mat, part, quality);
+    }
+    
+    public float attackSpeed(int mat, int part) {
+        return snapshot(false).attackSpeed(mat, part);
+    }
+    
+    public int miningLevel(int mat, int part) {
+        return snapshot(false).miningLevel(mat, part);
+    }
+    
     /**
      * Get all registered materials.
+     * Once frozen, this is a precomputed immutable list.
      */
     public Collection<Material> getAllMaterials() {
-        return Collections.unmodifiableCollection(materials.values());
+        MaterialSnapshot snapshot = serverSnapshot;
+        if (snapshot != null) {
+            return snapshot.getAllMaterials();
+        }
+        return List.copyOf(materials.values());
     }
     
     /**
      * Get all stats for a specific material.
      */
     public Map<Identifier, MaterialStats> getAllStatsForMaterial(Identifier materialId) {
+        MaterialSnapshot snapshot = serverSnapshot;
+        if (snapshot != null) {
+            return snapshot.getAllStatsForMaterial(materialId);
+        }
+        
         Map<Identifier, MaterialStats> stats = materialStats.get(materialId);
         if (stats == null) {
             return Collections.emptyMap();
@@ -124,27 +413,23 @@ public class MaterialRegistry {
      * Check if a material exists.
      */
     public boolean hasMaterial(Identifier id) {
-        return materials.containsKey(id);
+        MaterialSnapshot snapshot = serverSnapshot;
+        return snapshot != null ? snapshot.hasMaterial(id) : materials.containsKey(id);
     }
     
     /**
      * Check if stats exist for a material + part type.
      */
     public boolean hasStats(Identifier materialId, Identifier partType) {
+        MaterialSnapshot snapshot = serverSnapshot;
+        if (snapshot != null) {
+            return snapshot.hasStats(materialId, partType);
+        }
+        
         Map<Identifier, MaterialStats> stats = materialStats.get(materialId);
         return stats != null && stats.containsKey(partType);
     }
     
-    /**
-     * Clear all materials and stats.
-     * Used when reloading from JSON.
-     */
-    public void clear() {
-        LOGGER.info("Clearing material registry");
-        materials.clear();
-        materialStats.clear();
-    }
-    
     /**
      * Get registry statistics (for debugging).
      */
@@ -157,6 +442,19 @@ public class MaterialRegistry {
             materials.size(), totalStats);
     }
     
+    /**
+     * Unresolved item link (material ID + form), kept until freeze().
+     */
+    static final class ItemLink {
+        final Identifier materialId;
+        final MaterialForm form;
+        
+        ItemLink(Identifier materialId, MaterialForm form) {
+            this.materialId = materialId;
+            this.form = form;
+        }
+    }
+    
     /**
      * Builder pattern for easy material creation.
      * 
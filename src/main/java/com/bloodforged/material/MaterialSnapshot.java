@@ -0,0 +1,395 @@
+package com.bloodforged.material;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.util.Identifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Frozen, read-only copy of the material registry.
+ *
+ * CONCEPT:
+ * MaterialRegistry has two phases:
+ * - BUILD phase: materials and stats are registered (mod init, JSON loading)
+ * - FROZEN phase: everything is compiled into a MaterialSnapshot
+ *
+ * A snapshot never changes after it is built:
+ * - Maps are immutable (Map.copyOf) - compact, no locking, no volatile reads
+ * - The material list is precomputed once, in registration order
+ *
+ * WHY ONE COPY PER SIDE?
+ * In singleplayer the integrated server and the client run in the same JVM.
+ * Each side gets its own snapshot, so the server thread and the render thread
+ * never share (or contend on) the same objects.
+ *
+ * PRIMITIVE API (for addons and hot paths):
+ * Materials and part types also get int handles (0..count-1, stable within one snapshot).
+ * Stats are stored in flat arrays indexed by [material * partCount + part], so
+ * durability(mat, part, quality) is a couple of array reads - no boxing, no allocation.
+ * getVersion() changes whenever a new snapshot is built; cache handles and values
+ * against it and re-resolve when it changes.
+ *
+ * USAGE:
+ * MaterialSnapshot snapshot = MaterialRegistry.INSTANCE.snapshot(world.isClient);
+ * MaterialStats stats = snapshot.getStats(materialId, partType);
+ *
+ * int steel = snapshot.materialHandle(steelId);
+ * int blade = snapshot.partHandle(ExampleMaterials.PART_BLADE);
+ * int durability = snapshot.durability(steel, blade, 85);
+ */
+public final class MaterialSnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("BloodForged/Materials");
+
+    // Returned by materialHandle() / partHandle() for unknown IDs
+    public static final int NO_HANDLE = -1;
+
+    // Bumped by the registry every time a snapshot is compiled
+    private final int version;
+
+    // All materials, in registration order
+    private final List<Material> materials;
+
+    // Fast lookup by ID
+    private final Map<Identifier, Material> materialsById;
+
+    // materialId -> partType -> stats
+    private final Map<Identifier, Map<Identifier, MaterialStats>> statsByMaterial;
+
+    // Precomputed for debug output
+    private final int totalStats;
+
+    // Item -> material + form, keyed by identity (Item does not override equals/hashCode)
+    private final Reference2ObjectOpenHashMap<Item, ItemClassification> itemIndex;
+
+    // Reverse of itemIndex: [material * FORM_COUNT + form] -> item (null if none)
+    private static final int FORM_COUNT = MaterialForm.values().length;
+    private final Item[] formItems;
+
+    // === PRIMITIVE TABLES ===
+
+    // Handle -> material, and ID -> handle
+    private final Material[] materialArray;
+    private final Object2IntOpenHashMap<Identifier> materialHandles;
+
+    // Handle -> part type, and ID -> handle
+    private final Identifier[] partArray;
+    private final Object2IntOpenHashMap<Identifier> partHandles;
+
+    // Per-material values
+    private final int[] tiers;
+    private final int[] colors;
+
+    // Per material + part values, indexed by [material * partCount + part]
+    private final boolean[] statsPresent;
+    private final int[] durabilities;
+    private final float[] attackDamages;
+    private final float[] miningSpeeds;
+    private final float[] attackSpeeds;
+    private final int[] miningLevels;
+
+    /**
+     * Compile a snapshot from the registry's build-phase storage.
+     * Package-private, only MaterialRegistry should create snapshots.
+     */
+    MaterialSnapshot(int version,
+                     Map<Identifier, Material> materials,
+                     Map<Identifier, Map<Identifier, MaterialStats>> materialStats,
+                     Map<Item, MaterialRegistry.ItemLink> itemLinks,
+                     Map<TagKey<Item>, MaterialRegistry.ItemLink> tagLinks) {
+        this.version = version;
+        this.materials = List.copyOf(materials.values());
+        this.materialsById = Map.copyOf(materials);
+
+        Map<Identifier, Map<Identifier, MaterialStats>> stats = new HashMap<>();
+        int count = 0;
+        for (Map.Entry<Identifier, Map<Identifier, MaterialStats>> entry : materialStats.entrySet()) {
+            stats.put(entry.getKey(), Map.copyOf(entry.getValue()));
+            count += entry.getValue().size();
+        }
+        this.statsByMaterial = Map.copyOf(stats);
+        this.totalStats = count;
+
+        // Material handles follow registration order
+        int materialCount = this.materials.size();
+        this.materialArray = this.materials.toArray(new Material[0]);
+        this.materialHandles = new Object2IntOpenHashMap<>(materialCount);
+        this.materialHandles.defaultReturnValue(NO_HANDLE);
+        this.tiers = new int[materialCount];
+        this.colors = new int[materialCount];
+        for (int mat = 0; mat < materialCount; mat++) {
+            Material material = materialArray[mat];
+            materialHandles.put(material.getId(), mat);
+            tiers[mat] = material.getTier();
+            colors[mat] = material.getColor();
+        }
+
+        // Part handles follow the order parts first appear in the stats
+        this.partHandles = new Object2IntOpenHashMap<>();
+        this.partHandles.defaultReturnValue(NO_HANDLE);
+        for (Map<Identifier, MaterialStats> statsForMaterial : materialStats.values()) {
+            for (Identifier partType : statsForMaterial.keySet()) {
+                if (!partHandles.containsKey(partType)) {
+                    partHandles.put(partType, partHandles.size());
+                }
+            }
+        }
+        int partCount = partHandles.size();
+        this.partArray = new Identifier[partCount];
+        partHandles.object2IntEntrySet().forEach(entry -> partArray[entry.getIntValue()] = entry.getKey());
+
+        // Flatten stats into primitive arrays
+        int cells = materialCount * partCount;
+        this.statsPresent = new boolean[cells];
+        this.durabilities = new int[cells];
+        this.attackDamages = new float[cells];
+        this.miningSpeeds = new float[cells];
+        this.attackSpeeds = new float[cells];
+        this.miningLevels = new int[cells];
+        for (int mat = 0; mat < materialCount; mat++) {
+            Map<Identifier, MaterialStats> statsForMaterial = statsByMaterial.get(materialArray[mat].getId());
+            if (statsForMaterial == null) {
+                continue;
+            }
+            for (MaterialStats partStats : statsForMaterial.values()) {
+                int cell = mat * partCount + partHandles.getInt(partStats.getPartType());
+                statsPresent[cell] = true;
+                durabilities[cell] = partStats.getDurability();
+                attackDamages[cell] = partStats.getAttackDamage();
+                miningSpeeds[cell] = partStats.getMiningSpeed();
+                attackSpeeds[cell] = partStats.getAttackSpeed();
+                miningLevels[cell] = partStats.getMiningLevel();
+            }
+        }
+
+        // Resolve links once; every lookup afterwards returns these shared instances.
+        // Tags go first so direct item links overwrite them.
+        // The reverse index keeps the first item of a tag, and our own items win over tags.
+        this.itemIndex = new Reference2ObjectOpenHashMap<>(itemLinks.size());
+        this.formItems = new Item[materialCount * FORM_COUNT];
+        for (Map.Entry<TagKey<Item>, MaterialRegistry.ItemLink> entry : tagLinks.entrySet()) {
+            ItemClassification classification = resolve(entry.getValue(), entry.getKey().id());
+            if (classification == null) {
+                continue;
+            }
+            int cell = formCell(classification.getMaterialHandle(), classification.getForm());
+            for (RegistryEntry<Item> item : Registries.ITEM.iterateEntries(entry.getKey())) {
+                itemIndex.put(item.value(), classification);
+                if (formItems[cell] == null) {
+                    formItems[cell] = item.value();
+                }
+            }
+        }
+        for (Map.Entry<Item, MaterialRegistry.ItemLink> entry : itemLinks.entrySet()) {
+            ItemClassification classification = resolve(entry.getValue(), entry.getKey());
+            if (classification != null) {
+                itemIndex.put(entry.getKey(), classification);
+                formItems[formCell(classification.getMaterialHandle(), classification.getForm())] = entry.getKey();
+            }
+        }
+        this.itemIndex.trim();
+    }
+
+    private ItemClassification resolve(MaterialRegistry.ItemLink link, Object source) {
+        Material material = materialsById.get(link.materialId);
+        if (material == null) {
+            LOGGER.warn("{} is linked to unknown material {}, skipping", source, link.materialId);
+            return null;
+        }
+        return new ItemClassification(material, materialHandles.getInt(material.getId()), link.form);
+    }
+
+    // === LOOKUPS ===
+
+    /**
+     * Get a material by ID.
+     * Returns null if not found.
+     */
+    public Material getMaterial(Identifier id) {
+        return materialsById.get(id);
+    }
+
+    /**
+     * Get stats for a material + part type.
+     * Returns null if not found.
+     */
+    public MaterialStats getStats(Identifier materialId, Identifier partType) {
+        Map<Identifier, MaterialStats> statsForMaterial = statsByMaterial.get(materialId);
+        if (statsForMaterial == null) {
+            return null;
+        }
+        return statsForMaterial.get(partType);
+    }
+
+    /**
+     * Find out which material (and form) an item is.
+     * Returns null if the item is not a known material item.
+     *
+     * Single identity-hash lookup, no allocation.
+     */
+    public ItemClassification classify(Item item) {
+        return itemIndex.get(item);
+    }
+
+    public ItemClassification classify(ItemStack stack) {
+        return itemIndex.get(stack.getItem());
+    }
+
+    /**
+     * The reverse of classify(): which item is this material in this form?
+     * E.g. (copper, INGOT) -> ModItems.COPPER_INGOT. Returns null if there is none.
+     *
+     * One array read, no allocation.
+     */
+    public Item itemFor(int mat, MaterialForm form) {
+        return formItems[formCell(mat, form)];
+    }
+
+    private static int formCell(int mat, MaterialForm form) {
+        return mat * FORM_COUNT + form.ordinal();
+    }
+
+    /**
+     * Get all materials, in registration order.
+     * The list is precomputed and immutable - no copy is made.
+     */
+    public List<Material> getAllMaterials() {
+        return materials;
+    }
+
+    /**
+     * Get all stats for a specific material.
+     */
+    public Map<Identifier, MaterialStats> getAllStatsForMaterial(Identifier materialId) {
+        Map<Identifier, MaterialStats> stats = statsByMaterial.get(materialId);
+        return stats != null ? stats : Collections.emptyMap();
+    }
+
+    public boolean hasMaterial(Identifier id) {
+        return materialsById.containsKey(id);
+    }
+
+    public boolean hasStats(Identifier materialId, Identifier partType) {
+        Map<Identifier, MaterialStats> stats = statsByMaterial.get(materialId);
+        return stats != null && stats.containsKey(partType);
+    }
+
+    public int getMaterialCount() {
+        return materials.size();
+    }
+
+    public int getTotalStats() {
+        return totalStats;
+    }
+
+    // === PRIMITIVE API ===
+    // All methods below take int handles and never allocate.
+    // Values for a material + part without stats are 0 (see hasStats).
+
+    /**
+     * Version of this snapshot. Different for every compiled snapshot,
+     * so a cached handle or value is valid as long as the version matches.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the handle for a material ID, or NO_HANDLE if unknown.
+     */
+    public int materialHandle(Identifier materialId) {
+        return materialHandles.getInt(materialId);
+    }
+
+    /**
+     * Get the handle for a part type ID, or NO_HANDLE if no material has stats for it.
+     */
+    public int partHandle(Identifier partType) {
+        return partHandles.getInt(partType);
+    }
+
+    public int materialCount() {
+        return materialArray.length;
+    }
+
+    public int partCount() {
+        return partArray.length;
+    }
+
+    public Material material(int mat) {
+        return materialArray[mat];
+    }
+
+    public Identifier part(int part) {
+        return partArray[part];
+    }
+
+    /**
+     * Visit every material handle, in order.
+     * Equivalent to: for (int mat = 0; mat < materialCount(); mat++)
+     */
+    public void forEachMaterial(IntConsumer action) {
+        for (int mat = 0; mat < materialArray.length; mat++) {
+            action.accept(mat);
+        }
+    }
+
+    public int tier(int mat) {
+        return tiers[mat];
+    }
+
+    public int color(int mat) {
+        return colors[mat];
+    }
+
+    public boolean hasStats(int mat, int part) {
+        return statsPresent[mat * partArray.length + part];
+    }
+
+    /**
+     * Durability with quality applied (same rounding as MaterialStats.withQuality).
+     */
+    public int durability(int mat, int part, int quality) {
+        return Math.round(durabilities[mat * partArray.length + part] * (quality / 100.0f));
+    }
+
+    /**
+     * Attack damage with quality applied.
+     */
+    public float attackDamage(int mat, int part, int quality) {
+        return attackDamages[mat * partArray.length + part] * (quality / 100.0f);
+    }
+
+    /**
+     * Mining speed with quality applied.
+     */
+    public float miningSpeed(int mat, int part, int quality) {
+        return miningSpeeds[mat * partArray.length + part] * (quality / 100.0f);
+    }
+
+    /**
+     * Attack speed multiplier (not affected by quality).
+     */
+    public float attackSpeed(int mat, int part) {
+        return attackSpeeds[mat * partArray.length + part];
+    }
+
+    /**
+     * Mining level (not affected by quality).
+     */
+    public int miningLevel(int mat, int part) {
+        return miningLevels[mat * partArray.length + part];
+    }
+}
@@ -0,0 +1,67 @@
+package com.bloodforged.material;
+
+import net.minecraft.item.Item;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.util.Identifier;
+
+/**
+ * Item tags that count as BloodForged materials.
+ *
+ * CONCEPT:
+ * Modpacks often ship their own copper, tin or steel ingots.
+ * Instead of listing every item, we link the shared "c" (common) tags
+ * to our materials. Any item in c:ingots/bronze is bronze, no matter which mod added it.
+ *
+ * The tags are walked once when they load, and the result is merged into the
+ * same identity index as our own items - see MaterialRegistry.onTagsLoaded().
+ */
+public class MaterialTags {
+
+    // === INGOTS ===
+    public static final TagKey<Item> COPPER_INGOTS = common("ingots/copper");
+    public static final TagKey<Item> TIN_INGOTS = common("ingots/tin");
+    public static final TagKey<Item> BRONZE_INGOTS = common("ingots/bronze");
+    public static final TagKey<Item> IRON_INGOTS = common("ingots/iron");
+    public static final TagKey<Item> STEEL_INGOTS = common("ingots/steel");
+
+    // === DUSTS ===
+    public static final TagKey<Item> COPPER_DUSTS = common("dusts/copper");
+    public static final TagKey<Item> TIN_DUSTS = common("dusts/tin");
+    public static final TagKey<Item> BRONZE_DUSTS = common("dusts/bronze");
+    public static final TagKey<Item> IRON_DUSTS = common("dusts/iron");
+    public static final TagKey<Item> STEEL_DUSTS = common("dusts/steel");
+
+    // === RAW ORE ===
+    public static final TagKey<Item> RAW_COPPER = common("raw_materials/copper");
+    public static final TagKey<Item> RAW_TIN = common("raw_materials/tin");
+    public static final TagKey<Item> RAW_IRON = common("raw_materials/iron");
+
+    private static TagKey<Item> common(String path) {
+        return TagKey.of(RegistryKeys.ITEM, Identifier.of("c", path));
+    }
+
+    /**
+     * Link all tags above to their materials.
+     * Called during mod initialization, before the registry is frozen.
+     */
+    public static void register() {
+        MaterialRegistry registry = MaterialRegistry.INSTANCE;
+
+        registry.registerTag(COPPER_INGOTS, ExampleMaterials.COPPER, MaterialForm.INGOT);
+        registry.registerTag(TIN_INGOTS, ExampleMaterials.TIN, MaterialForm.INGOT);
+        registry.registerTag(BRONZE_INGOTS, ExampleMaterials.BRONZE, MaterialForm.INGOT);
+        registry.registerTag(IRON_INGOTS, ExampleMaterials.IRON, MaterialForm.INGOT);
+        registry.registerTag(STEEL_INGOTS, ExampleMaterials.STEEL, MaterialForm.INGOT);
+
+        registry.registerTag(COPPER_DUSTS, ExampleMaterials.COPPER, MaterialForm.DUST);
+        registry.registerTag(TIN_DUSTS, ExampleMaterials.TIN, MaterialForm.DUST);
+        registry.registerTag(BRONZE_DUSTS, ExampleMaterials.BRONZE, MaterialForm.DUST);
+        registry.registerTag(IRON_DUSTS, ExampleMaterials.IRON, MaterialForm.DUST);
+        registry.registerTag(STEEL_DUSTS, ExampleMaterials.STEEL, MaterialForm.DUST);
+
+        registry.registerTag(RAW_COPPER, ExampleMaterials.COPPER, MaterialForm.RAW);
+        registry.registerTag(RAW_TIN, ExampleMaterials.TIN, MaterialForm.RAW);
+        registry.registerTag(RAW_IRON, ExampleMaterials.IRON, MaterialForm.RAW);
+    }
+}
@@ -0,0 +1,288 @@
+package com.bloodforged.material;
+
+import net.minecraft.util.Identifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Derives per-part MaterialStats from a material's PhysicalProperties and tier.
+ *
+ * CONCEPT:
+ * Hand-typing blade/handle/guard stats for every material does not scale.
+ * Instead, each part type has a PartFormula: a set of linear formulas that turn
+ * (hardness, toughness, flexibility, density, tier) into tool stats.
+ *
+ *   stat = h * hardness + t * toughness + f * flexibility + d * density + tier * tier + constant
+ *
+ * OVERRIDES:
+ * Stats registered explicitly (like ExampleMaterials does) always win.
+ * Derivation only fills in material + part combinations that have no stats yet.
+ *
+ * BATCHING:
+ * All materials are processed in one pass at freeze time. Properties are laid out
+ * as flat float arrays (one per property), and each formula is a tight loop over
+ * those arrays with no branches - simple enough for the JIT to vectorize.
+ *
+ * USAGE (during the build phase, before freeze):
+ * StatDerivation.INSTANCE.setFormula(myPartId, new StatDerivation.PartFormula(...));
+ */
+public class StatDerivation {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("BloodForged/Materials");
+
+    // Singleton instance
+    public static final StatDerivation INSTANCE = new StatDerivation();
+
+    /**
+     * Time budget for one derivation pass.
+     * 1,000 materials x 3 parts should fit comfortably; going over logs a warning.
+     * Check it on real hardware with /bloodforged benchmark freeze (see FreezeBenchmark).
+     */
+    static final long BUDGET_NANOS = 50_000_000L; // 50 ms
+
+    // Formulas per part type (insertion order = derivation order)
+    private final Map<Identifier, PartFormula> formulas = new LinkedHashMap<>();
+
+    private StatDerivation() {
+        registerDefaultFormulas();
+    }
+
+    /**
+     * Default formulas, roughly calibrated against the hand-written example stats.
+     */
+    private void registerDefaultFormulas() {
+        // Blade: hardness drives damage + mining, toughness drives durability
+        setFormula(ExampleMaterials.PART_BLADE, new PartFormula(
+            StatFormula.of(15.0f, 40.0f, 0, 0, 40.0f, -50.0f),  // durability
+            StatFormula.of(0.5f, 0, 0, 0.1f, 0.5f, -1.7f),      // attack damage
+            StatFormula.of(0.8f, 0, 0, 0, 1.0f, -0.8f),         // mining speed
+            StatFormula.constant(1.0f),                         // attack speed
+            StatFormula.of(0, 0, 0, 0, 1.0f, 0)                 // mining level = tier
+        ));
+
+        // Handle: flexibility makes it faster, density makes it slower
+        setFormula(ExampleMaterials.PART_HANDLE, new PartFormula(
+            StatFormula.ZERO,
+            StatFormula.ZERO,
+            StatFormula.ZERO,
+            StatFormula.of(0, 0, 0.05f, -0.02f, 0, 1.0f),
+            StatFormula.ZERO
+        ));
+
+        // Guard: toughness adds durability, density adds a little weight behind hits
+        setFormula(ExampleMaterials.PART_GUARD, new PartFormula(
+            StatFormula.of(0, 25.0f, 0, 0, 10.0f, -20.0f),
+            StatFormula.of(0, 0, 0, 0.1f, 0.25f, -0.5f),
+            StatFormula.ZERO,
+            StatFormula.constant(1.0f),
+            StatFormula.ZERO
+        ));
+    }
+
+    // === CONFIGURATION ===
+
+    /**
+     * Set (or replace) the formula used for a part type.
+     */
+    public void setFormula(Identifier partType, PartFormula formula) {
+        formulas.put(partType, formula);
+    }
+
+    /**
+     * Stop deriving stats for a part type.
+     */
+    public void removeFormula(Identifier partType) {
+        formulas.remove(partType);
+    }
+
+    public PartFormula getFormula(Identifier partType) {
+        return formulas.get(partType);
+    }
+
+    // === DERIVATION ===
+
+    /**
+     * Derive stats for every material + part combination that has no explicit stats.
+     *
+     * Called by MaterialRegistry.freeze(), while still in the build phase.
+     *
+     * @param materials All registered materials
+     * @param explicitStats Stats registered by hand (materialId -> partType -> stats)
+     * @return Newly derived stats (never overwrites explicit ones)
+     */
+    List<MaterialStats> deriveMissing(Map<Identifier, Material> materials,
+                                      Map<Identifier, Map<Identifier, MaterialStats>> explicitStats) {
+        long start = System.nanoTime();
+
+        List<Material> list = new ArrayList<>(materials.values());
+        int count = list.size();
+        List<MaterialStats> derived = new ArrayList<>();
+        if (count == 0 || formulas.isEmpty()) {
+            return derived;
+        }
+
+        // Lay out properties as flat arrays (structure of arrays)
+        PropertyBatch batch = new PropertyBatch(count);
+        for (int i = 0; i < count; i++) {
+            batch.set(i, list.get(i));
+        }
+
+        // Output buffers, reused for every part type
+        float[] durability = new float[count];
+        float[] attackDamage = new float[count];
+        float[] miningSpeed = new float[count];
+        float[] attackSpeed = new float[count];
+        float[] miningLevel = new float[count];
+
+        for (Map.Entry<Identifier, PartFormula> entry : formulas.entrySet()) {
+            Identifier partType = entry.getKey();
+            PartFormula formula = entry.getValue();
+
+            // Batch pass: one tight loop per stat
+            formula.durability.apply(batch, durability);
+            formula.attackDamage.apply(batch, attackDamage);
+            formula.miningSpeed.apply(batch, miningSpeed);
+            formula.attackSpeed.apply(batch, attackSpeed);
+            formula.miningLevel.apply(batch, miningLevel);
+
+            // Collect results, skipping explicit overrides
+            for (int i = 0; i < count; i++) {
+                Identifier materialId = list.get(i).getId();
+                Map<Identifier, MaterialStats> existing = explicitStats.get(materialId);
+                if (existing != null && existing.containsKey(partType)) {
+                    continue;
+                }
+
+                derived.add(new MaterialStats(
+                    materialId, partType,
+                    Math.round(Math.max(0.0f, durability[i])),
+                    Math.max(0.0f, attackDamage[i]),
+                    Math.max(0.0f, miningSpeed[i]),
+                    Math.max(0.1f, attackSpeed[i]),
+                    Math.max(0, Math.round(miningLevel[i]))
+                ));
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        if (elapsed > BUDGET_NANOS) {
+            LOGGER.warn("Stat derivation for {} materials took {} ms (budget {} ms)",
+                count, elapsed / 1_000_000, BUDGET_NANOS / 1_000_000);
+        } else {
+            LOGGER.info("Derived {} stats for {} materials in {} us",
+                derived.size(), count, elapsed / 1_000);
+        }
+
+        return derived;
+    }
+
+    // === FORMULAS ===
+
+    /**
+     * Formulas for every stat of one part type.
+     */
+    public static class PartFormula {
+        private final StatFormula durability;
+        private final StatFormula attackDamage;
+        private final StatFormula miningSpeed;
+        private final StatFormula attackSpeed;
+        private final StatFormula miningLevel;
+
+        public PartFormula(StatFormula durability, StatFormula attackDamage, StatFormula miningSpeed,
+                           StatFormula attackSpeed, StatFormula miningLevel) {
+            this.durability = durability;
+            this.attackDamage = attackDamage;
+            this.miningSpeed = miningSpeed;
+            this.attackSpeed = attackSpeed;
+            this.miningLevel = miningLevel;
+        }
+    }
+
+    /**
+     * A linear formula over physical properties and tier.
+     */
+    public static class StatFormula {
+        public static final StatFormula ZERO = constant(0.0f);
+
+        private final float hardness;
+        private final float toughness;
+        private final float flexibility;
+        private final float density;
+        private final float tier;
+        private final float constant;
+
+        private StatFormula(float hardness, float toughness, float flexibility,
+                            float density, float tier, float constant) {
+            this.hardness = hardness;
+            this.toughness = toughness;
+            this.flexibility = flexibility;
+            this.density = density;
+            this.tier = tier;
+            this.constant = constant;
+        }
+
+        /**
+         * Create a formula from one coefficient per input.
+         */
+        public static StatFormula of(float hardness, float toughness, float flexibility,
+                                     float density, float tier, float constant) {
+            return new StatFormula(hardness, toughness, flexibility, density, tier, constant);
+        }
+
+        /**
+         * A formula that ignores the material and always returns the same value.
+         */
+        public static StatFormula constant(float value) {
+            return new StatFormula(0, 0, 0, 0, 0, value);
+        }
+
+        /**
+         * Evaluate this formula for every material in the batch.
+         * Branch-free loop over flat arrays.
+         */
+        void apply(PropertyBatch batch, float[] out) {
+            float[] h = batch.hardness;
+            float[] t = batch.toughness;
+            float[] f = batch.flexibility;
+            float[] d = batch.density;
+            float[] tr = batch.tier;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = hardness * h[i] + toughness * t[i] + flexibility * f[i]
+                    + density * d[i] + tier * tr[i] + constant;
+            }
+        }
+    }
+
+    /**
+     * Material properties laid out as one array per property.
+     */
+    static class PropertyBatch {
+        final float[] hardness;
+        final float[] toughness;
+        final float[] flexibility;
+        final float[] density;
+        final float[] tier;
+
+        PropertyBatch(int size) {
+            this.hardness = new float[size];
+            this.toughness = new float[size];
+            this.flexibility = new float[size];
+            this.density = new float[size];
+            this.tier = new float[size];
+        }
+
+        void set(int index, Material material) {
+            Material.PhysicalProperties properties = material.getProperties();
+            hardness[index] = properties.getHardness();
+            toughness[index] = properties.getToughness();
+            flexibility[index] = properties.getFlexibility();
+            density[index] = properties.getDensity();
+            tier[index] = material.getTier();
+        }
+    }
+}
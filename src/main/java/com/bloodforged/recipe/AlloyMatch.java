@@ -0,0 +1,28 @@
+package com.bloodforged.recipe;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import net.minecraft.util.Identifier;
+
+/**
+ * Best alloy a mix can make, as found by AlloyRecipeIndex.solve.
+ *
+ * @param recipe    The winning recipe
+ * @param units     Batch size: input units consumed (and result units produced)
+ * @param amounts   Units taken per component, parallel to recipe.getComponents()
+ * @param deviation Distance of the split from the ideal ratios (0 = exact)
+ * @param leftovers Units of the mix that stay behind, per component key
+ */
+public record AlloyMatch(AlloyRecipe recipe, int units, int[] amounts, double deviation,
+                         Object2IntMap<Identifier> leftovers) {
+
+    /**
+     * Total units left behind (catalyst excluded once consumed).
+     */
+    public int leftoverUnits() {
+        int total = 0;
+        for (int count : leftovers.values()) {
+            total += count;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,78 @@
+package com.bloodforged.recipe;
+
+import com.bloodforged.material.ItemClassification;
+import com.bloodforged.material.MaterialForm;
+import com.bloodforged.material.MaterialRegistry;
+import com.bloodforged.material.MaterialSnapshot;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.input.RecipeInput;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+
+/**
+ * Units of each alloy component in a container, e.g. {copper: 21, tin: 3, flux: 1}.
+ *
+ * Every item is one unit of its component key (see keyOf). AlloyRecipeIndex
+ * looks recipes up by every key present.
+ *
+ * Meant to be owned and refilled by its container (clear + add), not rebuilt.
+ */
+public class AlloyMix {
+
+    private final Object2IntOpenHashMap<Identifier> units = new Object2IntOpenHashMap<>();
+
+    // === KEYS ===
+
+    /**
+     * Component key of a stack: its material ID for dust and ingots,
+     * otherwise the item ID (additives like carbon and flux).
+     */
+    public static Identifier keyOf(MaterialSnapshot snapshot, ItemStack stack) {
+        ItemClassification classification = snapshot.classify(stack);
+        if (classification != null && classification.getForm() != MaterialForm.RAW) {
+            return classification.getMaterial().getId();
+        }
+        return Registries.ITEM.getId(stack.getItem());
+    }
+
+    // === FILLING ===
+
+    public void clear() {
+        units.clear();
+    }
+
+    public void add(Identifier key, int count) {
+        if (count > 0) {
+            units.addTo(key, count);
+        }
+    }
+
+    /**
+     * Add every non-empty stack of a recipe input.
+     */
+    public void addAll(RecipeInput input, boolean isClient) {
+        MaterialSnapshot snapshot = MaterialRegistry.INSTANCE.snapshot(isClient);
+        for (int slot = 0; slot < input.size(); slot++) {
+            ItemStack stack = input.getStackInSlot(slot);
+            if (!stack.isEmpty()) {
+                add(keyOf(snapshot, stack), stack.getCount());
+            }
+        }
+    }
+
+    // === QUERIES ===
+
+    public int get(Identifier key) {
+        return units.getInt(key);
+    }
+
+    public boolean isEmpty() {
+        return units.isEmpty();
+    }
+
+    public Object2IntMap<Identifier> asMap() {
+        return units;
+    }
+}
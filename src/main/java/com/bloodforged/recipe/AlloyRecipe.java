@@ -0,0 +1,404 @@
+package com.bloodforged.recipe;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.MapCodec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.recipe.IngredientPlacement;
+import net.minecraft.recipe.Recipe;
+import net.minecraft.recipe.RecipeSerializer;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.recipe.book.RecipeBookCategories;
+import net.minecraft.recipe.book.RecipeBookCategory;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.World;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Alloy recipe: a mix of components in the right proportions fuses into one alloy.
+ *
+ * Each component is a ratio with a tolerance. Ratios are relative (3:1 and
+ * 0.75:0.25 are the same recipe); tolerances are absolute fractions of the batch.
+ * A component is either a material ID (any dust or ingot of it counts, one unit
+ * per item) or a plain item ID (additives like carbon).
+ *
+ * {
+ *   "type": "bloodforged:alloying",
+ *   "components": [
+ *     { "id": "bloodforged:copper", "ratio": 0.88, "tolerance": 0.04 },
+ *     { "id": "bloodforged:tin",    "ratio": 0.12, "tolerance": 0.04 }
+ *   ],
+ *   "catalyst": "bloodforged:flux",        (optional, one consumed per batch)
+ *   "time": 400,                           (ticks per batch, optional)
+ *   "result": { "id": "bloodforged:bronze_ingot" }   (per unit of input)
+ * }
+ *
+ * Like the metalworking recipes, these are not matched through the vanilla
+ * RecipeManager at runtime: AlloyRecipeIndex keys them by dominant component.
+ */
+public class AlloyRecipe implements Recipe<AlloyRecipeInput> {
+
+    // Slack for float rounding when turning fractions into whole units
+    private static final double EPSILON = 1.0E-6;
+
+    /**
+     * One ingredient of the mix.
+     *
+     * @param id        Material ID or item ID
+     * @param ratio     Relative share of the batch (normalized by the recipe)
+     * @param tolerance Allowed deviation from the normalized share, 0-1
+     */
+    public record Component(Identifier id, float ratio, float tolerance) {
+
+        public static final Codec<Component> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                Identifier.CODEC.fieldOf("id").forGetter(Component::id),
+                Codec.floatRange(0.0f, Float.MAX_VALUE).fieldOf("ratio").forGetter(Component::ratio),
+                Codec.floatRange(0.0f, 1.0f).optionalFieldOf("tolerance", 0.0f).forGetter(Component::tolerance)
+        ).apply(instance, Component::new));
+
+        public static final PacketCodec<RegistryByteBuf, Component> PACKET_CODEC = PacketCodec.tuple(
+                Identifier.PACKET_CODEC, Component::id,
+                PacketCodecs.FLOAT, Component::ratio,
+                PacketCodecs.FLOAT, Component::tolerance,
+                Component::new
+        );
+    }
+
+    public static final int DEFAULT_TIME = 400;
+
+    private final List<Component> components;
+    private final Optional<Item> catalyst;
+    private final int time;
+    private final ItemStack result;
+
+    // Resolved once: ids, normalized ratios and their [lo, hi] bounds, parallel arrays
+    private final Identifier[] ids;
+    private final double[] ratios;
+    private final double[] lows;
+    private final double[] highs;
+    private final int dominant;
+    private final Identifier catalystId;
+
+    public AlloyRecipe(List<Component> components, Optional<Item> catalyst, int time, ItemStack result) {
+        this.components = List.copyOf(components);
+        this.catalyst = catalyst;
+        this.time = time;
+        this.result = result;
+
+        int k = components.size();
+        double sum = 0;
+        for (Component component : components) {
+            sum += component.ratio();
+        }
+
+        this.ids = new Identifier[k];
+        this.ratios = new double[k];
+        this.lows = new double[k];
+        this.highs = new double[k];
+        int largest = 0;
+        for (int i = 0; i < k; i++) {
+            Component component = components.get(i);
+            ids[i] = component.id();
+            ratios[i] = component.ratio() / sum;
+            lows[i] = Math.max(0.0, ratios[i] - component.tolerance());
+            highs[i] = Math.min(1.0, ratios[i] + component.tolerance());
+            if (ratios[i] > ratios[largest]) {
+                largest = i;
+            }
+        }
+        this.dominant = largest;
+        this.catalystId = catalyst.map(Registries.ITEM::getId).orElse(null);
+    }
+
+    // === SOLVING ===
+
+    /**
+     * Largest batch (in units) this recipe can make from a mix, with every
+     * component inside its tolerance. 0 if the mix can't make any.
+     *
+     * For a batch of N units, component i must contribute between lo_i*N and
+     * hi_i*N units and can't use more than it has (a_i). N is feasible while
+     *   lo_i*N <= a_i for every i, and N <= sum(min(hi_i*N, a_i))
+     * The second condition holds on an interval [0, N*], so N* is found by
+     * binary search; the integer rounding is then fixed by stepping down.
+     */
+    public int maxUnits(AlloyMix mix) {
+        if (catalystId != null && mix.get(catalystId) < 1) {
+            return 0;
+        }
+
+        // Components that must be present cap the batch directly
+        long upper = 0;
+        for (int i = 0; i < ids.length; i++) {
+            upper += mix.get(ids[i]);
+        }
+        for (int i = 0; i < ids.length; i++) {
+            if (lows[i] > 0) {
+                upper = Math.min(upper, (long) Math.floor(mix.get(ids[i]) / lows[i] + EPSILON));
+            }
+        }
+        if (upper <= 0) {
+            return 0;
+        }
+
+        int low = 0;
+        int high = (int) Math.min(upper, Integer.MAX_VALUE);
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (fitsRelaxed(mix, mid)) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        for (int n = low; n > 0; n--) {
+            if (fits(mix, n)) {
+                return n;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Split a batch of n units (as returned by maxUnits) over the components,
+     * as close to the ideal ratios as the bounds and the mix allow.
+     *
+     * @return Units per component, parallel to getComponents()
+     */
+    public int[] allocate(AlloyMix mix, int n) {
+        int k = ids.length;
+        int[] amounts = new int[k];
+        int[] min = new int[k];
+        int[] max = new int[k];
+
+        int total = 0;
+        for (int i = 0; i < k; i++) {
+            min[i] = minUnits(i, n);
+            max[i] = maxUnits(mix, i, n);
+            amounts[i] = Math.clamp(Math.round(ratios[i] * n), min[i], max[i]);
+            total += amounts[i];
+        }
+
+        // Rounding left the sum off by a few units; move them one at a time
+        // onto (or off) the component furthest from its ideal share
+        while (total != n) {
+            int step = total < n ? 1 : -1;
+            int best = -1;
+            double bestGap = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < k; i++) {
+                boolean movable = step > 0 ? amounts[i] < max[i] : amounts[i] > min[i];
+                double gap = step * (ratios[i] * n - amounts[i]);
+                if (movable && gap > bestGap) {
+                    best = i;
+                    bestGap = gap;
+                }
+            }
+            if (best < 0) {
+                break; // Can't happen for an n from maxUnits
+            }
+            amounts[best] += step;
+            total += step;
+        }
+        return amounts;
+    }
+
+    /**
+     * How far a split is from the ideal ratios (sum of absolute share errors).
+     * Lower is better; used to break ties between recipes.
+     */
+    public double deviation(int[] amounts, int n) {
+        double deviation = 0;
+        for (int i = 0; i < ids.length; i++) {
+            deviation += Math.abs((double) amounts[i] / n - ratios[i]);
+        }
+        return deviation;
+    }
+
+    private boolean fitsRelaxed(AlloyMix mix, int n) {
+        double capacity = 0;
+        for (int i = 0; i < ids.length; i++) {
+            capacity += Math.min(highs[i] * n, mix.get(ids[i]));
+        }
+        return capacity + EPSILON >= n;
+    }
+
+    private boolean fits(AlloyMix mix, int n) {
+        long min = 0;
+        long max = 0;
+        for (int i = 0; i < ids.length; i++) {
+            int lo = minUnits(i, n);
+            int hi = maxUnits(mix, i, n);
+            if (lo > hi) {
+                return false;
+            }
+            min += lo;
+            max += hi;
+        }
+        return min <= n && n <= max;
+    }
+
+    private int minUnits(int i, int n) {
+        return (int) Math.ceil(lows[i] * n - EPSILON);
+    }
+
+    private int maxUnits(AlloyMix mix, int i, int n) {
+        return Math.min((int) Math.floor(highs[i] * n + EPSILON), mix.get(ids[i]));
+    }
+
+    // === RECIPE INTERFACE ===
+
+    @Override
+    public boolean matches(AlloyRecipeInput input, World world) {
+        AlloyMix mix = new AlloyMix();
+        mix.addAll(input, world.isClient);
+        return maxUnits(mix) > 0;
+    }
+
+    @Override
+    public ItemStack craft(AlloyRecipeInput input, RegistryWrapper.WrapperLookup registries) {
+        return result.copy();
+    }
+
+    @Override
+    public RecipeSerializer<AlloyRecipe> getSerializer() {
+        return ModRecipes.ALLOYING_SERIALIZER;
+    }
+
+    @Override
+    public RecipeType<AlloyRecipe> getType() {
+        return ModRecipes.ALLOYING;
+    }
+
+    @Override
+    public IngredientPlacement getIngredientPlacement() {
+        return IngredientPlacement.NONE;
+    }
+
+    @Override
+    public RecipeBookCategory getRecipeBookCategory() {
+        return RecipeBookCategories.FURNACE_MISC;
+    }
+
+    @Override
+    public boolean isIgnoredInRecipeBook() {
+        return true;
+    }
+
+    // === GETTERS ===
+
+    public List<Component> getComponents() {
+        return components;
+    }
+
+    /**
+     * The component with the largest share - what the index keys this recipe on.
+     * Never optional (see Serializer.validate), so no batch can be made without it.
+     */
+    public Identifier getDominant() {
+        return ids[dominant];
+    }
+
+    public Optional<Item> getCatalyst() {
+        return catalyst;
+    }
+
+    /**
+     * Catalyst item ID, or null if the recipe needs none.
+     */
+    public Identifier getCatalystId() {
+        return catalystId;
+    }
+
+    public int getTime() {
+        return time;
+    }
+
+    public ItemStack getResult() {
+        return result;
+    }
+
+    // === SERIALIZER ===
+
+    public static class Serializer implements RecipeSerializer<AlloyRecipe> {
+
+        private static final Codec<List<Component>> COMPONENTS_CODEC =
+                Component.CODEC.listOf(2, 16).validate(Serializer::validate);
+
+        private static final MapCodec<AlloyRecipe> CODEC = RecordCodecBuilder.mapCodec(instance -> instance.group(
+                COMPONENTS_CODEC.fieldOf("components").forGetter(AlloyRecipe::getComponents),
+                Registries.ITEM.getCodec().optionalFieldOf("catalyst").forGetter(AlloyRecipe::getCatalyst),
+                Codec.intRange(1, 72000).optionalFieldOf("time", DEFAULT_TIME).forGetter(AlloyRecipe::getTime),
+                ItemStack.VALIDATED_CODEC.fieldOf("result").forGetter(AlloyRecipe::getResult)
+        ).apply(instance, AlloyRecipe::new));
+
+        private static final PacketCodec<RegistryByteBuf, AlloyRecipe> PACKET_CODEC = PacketCodec.tuple(
+                Component.PACKET_CODEC.collect(PacketCodecs.toList()), AlloyRecipe::getComponents,
+                PacketCodecs.registryValue(RegistryKeys.ITEM).collect(PacketCodecs::optional), AlloyRecipe::getCatalyst,
+                PacketCodecs.VAR_INT, AlloyRecipe::getTime,
+                ItemStack.PACKET_CODEC, AlloyRecipe::getResult,
+                AlloyRecipe::new
+        );
+
+        /**
+         * Components must be distinct, have a share, and be able to sum to 100%.
+         * The largest component must be required (tolerance below its share):
+         * AlloyRecipeIndex only looks a recipe up when the mix holds it.
+         */
+        private static DataResult<List<Component>> validate(List<Component> components) {
+            Set<Identifier> seen = new HashSet<>();
+            double sum = 0;
+            for (Component component : components) {
+                if (!seen.add(component.id())) {
+                    return DataResult.error(() -> "Duplicate alloy component " + component.id());
+                }
+                sum += component.ratio();
+            }
+            if (sum <= 0) {
+                return DataResult.error(() -> "Alloy component ratios must not all be zero");
+            }
+
+            double low = 0;
+            double high = 0;
+            Component largest = components.get(0);
+            for (Component component : components) {
+                double share = component.ratio() / sum;
+                low += Math.max(0.0, share - component.tolerance());
+                high += Math.min(1.0, share + component.tolerance());
+                if (component.ratio() > largest.ratio()) {
+                    largest = component;
+                }
+            }
+            if (low > 1.0 + EPSILON || high < 1.0 - EPSILON) {
+                return DataResult.error(() -> "Alloy tolerances leave no valid mix");
+            }
+            Component dominant = largest;
+            if (dominant.ratio() / sum - dominant.tolerance() <= 0) {
+                return DataResult.error(() -> "Largest alloy component " + dominant.id() + " must not be optional (tolerance below its share)");
+            }
+            return DataResult.success(components);
+        }
+
+        @Override
+        public MapCodec<AlloyRecipe> codec() {
+            return CODEC;
+        }
+
+        @Override
+        public PacketCodec<RegistryByteBuf, AlloyRecipe> packetCodec() {
+            return PACKET_CODEC;
+        }
+    }
+}
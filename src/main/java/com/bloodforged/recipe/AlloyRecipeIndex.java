@@ -0,0 +1,183 @@
+package com.bloodforged.recipe;
+
+import com.bloodforged.BloodForged;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.recipe.Recipe;
+import net.minecraft.recipe.RecipeEntry;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Alloy recipes keyed by their dominant component, plus the solver.
+ *
+ * WHY:
+ * A modpack can easily carry hundreds of alloys, and a furnace fed by hoppers
+ * changes its contents every few ticks. Testing the mix against every recipe
+ * on each change doesn't scale. Each recipe is filed once, under its dominant
+ * (largest-ratio) component, and solve() probes the bucket of every key in the mix:
+ *   {copper: 21, tin: 3} -> recipes dominated by copper, then by tin
+ * The dominant component is never optional (AlloyRecipe.Serializer.validate),
+ * so a recipe whose dominant key is missing from the mix can't make a batch and
+ * is rightly never looked at. Each recipe sits in exactly one bucket, so it is
+ * tried at most once per mix, and nothing is scanned to find out which bucket.
+ * Callers only tally alloy inputs (isInput), so a furnace full of raw ore
+ * doesn't hide the dust next to it.
+ *
+ * SOLVING:
+ * Each candidate computes its largest feasible batch (AlloyRecipe.maxUnits).
+ * The best match makes the most units; ties go to the split closest to the
+ * ideal ratios, then to the recipe ID, so the result is deterministic.
+ *
+ * LIFECYCLE:
+ * Rebuilt from the server's RecipeManager on server start and after every
+ * datapack reload (maps replaced as a whole). getGeneration() changes on each
+ * rebuild, so callers caching a match know when to solve again.
+ * Server thread only.
+ */
+public class AlloyRecipeIndex {
+
+    private static final Comparator<RecipeEntry<AlloyRecipe>> ORDER =
+            Comparator.comparing(entry -> entry.id().getValue());
+
+    private Object2ObjectOpenHashMap<Identifier, AlloyRecipe[]> byDominant = new Object2ObjectOpenHashMap<>();
+
+    // Every component and catalyst key any recipe uses
+    private Set<Identifier> inputs = Set.of();
+
+    // Recipe ID per recipe, for deterministic tie-breaking
+    private Reference2ObjectOpenHashMap<AlloyRecipe, Identifier> ids = new Reference2ObjectOpenHashMap<>();
+
+    private int generation = 0;
+
+    // === BUILDING ===
+
+    /**
+     * Rebuild from the server's loaded recipes.
+     */
+    @SuppressWarnings("unchecked")
+    public void rebuild(MinecraftServer server) {
+        Object2ObjectOpenHashMap<Identifier, List<RecipeEntry<AlloyRecipe>>> grouped = new Object2ObjectOpenHashMap<>();
+        ObjectOpenHashSet<Identifier> keys = new ObjectOpenHashSet<>();
+        for (RecipeEntry<?> entry : server.getRecipeManager().values()) {
+            Recipe<?> recipe = entry.value();
+            if (recipe.getType() == ModRecipes.ALLOYING) {
+                AlloyRecipe alloy = (AlloyRecipe) recipe;
+                grouped.computeIfAbsent(alloy.getDominant(), id -> new ArrayList<>()).add((RecipeEntry<AlloyRecipe>) entry);
+                for (AlloyRecipe.Component component : alloy.getComponents()) {
+                    keys.add(component.id());
+                }
+                if (alloy.getCatalystId() != null) {
+                    keys.add(alloy.getCatalystId());
+                }
+            }
+        }
+
+        Object2ObjectOpenHashMap<Identifier, AlloyRecipe[]> index = new Object2ObjectOpenHashMap<>(grouped.size());
+        Reference2ObjectOpenHashMap<AlloyRecipe, Identifier> recipeIds = new Reference2ObjectOpenHashMap<>();
+        for (var group : grouped.object2ObjectEntrySet()) {
+            List<RecipeEntry<AlloyRecipe>> entries = group.getValue();
+            entries.sort(ORDER);
+            AlloyRecipe[] recipes = new AlloyRecipe[entries.size()];
+            for (int i = 0; i < recipes.length; i++) {
+                recipes[i] = entries.get(i).value();
+                recipeIds.put(recipes[i], entries.get(i).id().getValue());
+            }
+            index.put(group.getKey(), recipes);
+        }
+        index.trim();
+
+        this.byDominant = index;
+        this.ids = recipeIds;
+        this.inputs = Set.copyOf(keys);
+        this.generation++;
+        BloodForged.LOGGER.info("Indexed {} alloy recipes over {} dominant components", recipeIds.size(), index.size());
+    }
+
+    // === LOOKUPS ===
+
+    /**
+     * Whether any alloy uses this component key (as ingredient or catalyst).
+     */
+    public boolean isInput(Identifier key) {
+        return inputs.contains(key);
+    }
+
+    /**
+     * Find the best alloy for a mix.
+     *
+     * @return The best match, or null if no recipe can make a single unit
+     */
+    public AlloyMatch solve(AlloyMix mix) {
+        if (mix.isEmpty()) {
+            return null;
+        }
+
+        Best best = new Best();
+        for (Identifier key : mix.asMap().keySet()) {
+            consider(byDominant.get(key), mix, best);
+        }
+        if (best.recipe == null) {
+            return null;
+        }
+
+        // Everything the batch doesn't take stays behind
+        AlloyRecipe recipe = best.recipe;
+        Object2IntOpenHashMap<Identifier> leftovers = new Object2IntOpenHashMap<>(mix.asMap());
+        List<AlloyRecipe.Component> components = recipe.getComponents();
+        for (int i = 0; i < components.size(); i++) {
+            leftovers.addTo(components.get(i).id(), -best.amounts[i]);
+        }
+        if (recipe.getCatalystId() != null) {
+            leftovers.addTo(recipe.getCatalystId(), -1);
+        }
+        leftovers.object2IntEntrySet().removeIf(entry -> entry.getIntValue() <= 0);
+
+        return new AlloyMatch(recipe, best.units, best.amounts, best.deviation, leftovers);
+    }
+
+    private void consider(AlloyRecipe[] candidates, AlloyMix mix, Best best) {
+        if (candidates == null) {
+            return;
+        }
+        for (AlloyRecipe recipe : candidates) {
+            int units = recipe.maxUnits(mix);
+            if (units <= 0 || units < best.units) {
+                continue;
+            }
+
+            int[] amounts = recipe.allocate(mix, units);
+            double deviation = recipe.deviation(amounts, units);
+            if (units == best.units && (deviation > best.deviation
+                    || deviation == best.deviation && ids.get(recipe).compareTo(ids.get(best.recipe)) >= 0)) {
+                continue;
+            }
+
+            best.recipe = recipe;
+            best.units = units;
+            best.amounts = amounts;
+            best.deviation = deviation;
+        }
+    }
+
+    /**
+     * Number of rebuilds so far. Cached matches from an older generation are stale.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    private static class Best {
+        AlloyRecipe recipe;
+        int units;
+        int[] amounts;
+        double deviation;
+    }
+}
@@ -0,0 +1,24 @@
+package com.bloodforged.recipe;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.input.RecipeInput;
+
+import java.util.List;
+
+/**
+ * Recipe input for alloying: the stacks of a furnace's input slots.
+ * Only used by the vanilla Recipe interface - furnaces tally their slots
+ * into an AlloyMix directly.
+ */
+public record AlloyRecipeInput(List<ItemStack> stacks) implements RecipeInput {
+
+    @Override
+    public ItemStack getStackInSlot(int slot) {
+        return stacks.get(slot);
+    }
+
+    @Override
+    public int size() {
+        return stacks.size();
+    }
+}
@@ -0,0 +1,35 @@
+package com.bloodforged.recipe;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.RecipeSerializer;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.util.Identifier;
+
+import java.util.Optional;
+
+/**
+ * Smithing recipe: what hot metal becomes when the anvil mini-game completes.
+ *
+ * Example: a hot bronze ingot smithed on the anvil becomes a bronze tool blade.
+ * The result gets the material of the input and the quality earned in the mini-game.
+ * JSON type: "bloodforged:smithing"
+ *
+ * (Named AnvilSmithingRecipe to stay clear of vanilla's SmithingRecipe.)
+ */
+public class AnvilSmithingRecipe extends MetalworkingRecipe {
+
+    public AnvilSmithingRecipe(Item input, Optional<Identifier> material, int temperature, ItemStack result) {
+        super(input, material, temperature, result);
+    }
+
+    @Override
+    public RecipeSerializer<AnvilSmithingRecipe> getSerializer() {
+        return ModRecipes.SMITHING_SERIALIZER;
+    }
+
+    @Override
+    public RecipeType<AnvilSmithingRecipe> getType() {
+        return ModRecipes.SMITHING;
+    }
+}
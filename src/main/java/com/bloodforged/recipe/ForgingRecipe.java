@@ -0,0 +1,32 @@
+package com.bloodforged.recipe;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.RecipeSerializer;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.util.Identifier;
+
+import java.util.Optional;
+
+/**
+ * Forging recipe: an item in the forge turns into the result once it's hot enough.
+ *
+ * Example: bronze dust heated to 900°C fuses into a bronze ingot.
+ * JSON type: "bloodforged:forging"
+ */
+public class ForgingRecipe extends MetalworkingRecipe {
+
+    public ForgingRecipe(Item input, Optional<Identifier> material, int temperature, ItemStack result) {
+        super(input, material, temperature, result);
+    }
+
+    @Override
+    public RecipeSerializer<ForgingRecipe> getSerializer() {
+        return ModRecipes.FORGING_SERIALIZER;
+    }
+
+    @Override
+    public RecipeType<ForgingRecipe> getType() {
+        return ModRecipes.FORGING;
+    }
+}
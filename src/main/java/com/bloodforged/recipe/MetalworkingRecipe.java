@@ -0,0 +1,208 @@
+package com.bloodforged.recipe;
+
+import com.bloodforged.component.ModDataComponents;
+import com.bloodforged.material.ItemClassification;
+import com.bloodforged.material.MaterialRegistry;
+import com.mojang.datafixers.util.Function4;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.MapCodec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.recipe.IngredientPlacement;
+import net.minecraft.recipe.Recipe;
+import net.minecraft.recipe.RecipeSerializer;
+import net.minecraft.recipe.book.RecipeBookCategories;
+import net.minecraft.recipe.book.RecipeBookCategory;
+import net.minecraft.recipe.input.SingleStackRecipeInput;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.World;
+
+import java.util.Optional;
+
+/**
+ * Base for single-item metalworking recipes (forging, smithing).
+ *
+ * A recipe turns ONE input item into a result, optionally only for one material,
+ * once the metal is hot enough:
+ *
+ * {
+ *   "type": "bloodforged:smithing",
+ *   "input": "bloodforged:bronze_ingot",
+ *   "material": "bloodforged:bronze",      (optional)
+ *   "temperature": 800,                    (minimum, optional)
+ *   "result": { "id": "bloodforged:tool_blade" }
+ * }
+ *
+ * The material of a stack is its MATERIAL component if it has one (tool parts),
+ * otherwise whatever the material registry classifies the item as (ingots, dust).
+ *
+ * Recipes are not looked up through the vanilla RecipeManager at runtime:
+ * MetalworkingRecipeIndex keeps them keyed by input Item for one-hit matching.
+ */
+public abstract class MetalworkingRecipe implements Recipe<SingleStackRecipeInput> {
+
+    protected final Item input;
+    protected final Optional<Identifier> material;
+    protected final int temperature;
+    protected final ItemStack result;
+
+    // Same material as a string, to compare against MATERIAL components without allocating
+    private final String materialString;
+
+    protected MetalworkingRecipe(Item input, Optional<Identifier> material, int temperature, ItemStack result) {
+        this.input = input;
+        this.material = material;
+        this.temperature = temperature;
+        this.result = result;
+        this.materialString = material.map(Identifier::toString).orElse(null);
+    }
+
+    // === MATCHING ===
+
+    /**
+     * Check a stack against this recipe. Allocation-free.
+     * The item itself is not checked here - the index already keyed on it.
+     *
+     * @param temperature Current temperature of the metal
+     */
+    public boolean matches(ItemStack stack, int temperature, boolean isClient) {
+        if (temperature < this.temperature) {
+            return false;
+        }
+        if (materialString == null) {
+            return true;
+        }
+
+        String component = stack.get(ModDataComponents.MATERIAL);
+        if (component != null) {
+            return component.equals(materialString);
+        }
+
+        ItemClassification classification = MaterialRegistry.INSTANCE.snapshot(isClient).classify(stack);
+        return classification != null && classification.getMaterial().getId().equals(material.get());
+    }
+
+    /**
+     * Whether this recipe only accepts one material.
+     * Material-specific recipes are tried before generic ones.
+     */
+    public boolean isMaterialSpecific() {
+        return materialString != null;
+    }
+
+    /**
+     * Create the result for an input stack.
+     *
+     * The input's material carries over onto results that don't have one of their
+     * own (a bronze ingot smithed into a blade gives a bronze blade).
+     */
+    public ItemStack craft(ItemStack stack, boolean isClient) {
+        ItemStack output = result.copy();
+        if (output.contains(ModDataComponents.MATERIAL)
+                || MaterialRegistry.INSTANCE.snapshot(isClient).classify(output) != null) {
+            return output;
+        }
+
+        String component = stack.get(ModDataComponents.MATERIAL);
+        if (component != null) {
+            output.set(ModDataComponents.MATERIAL, component);
+        } else {
+            ItemClassification classification = MaterialRegistry.INSTANCE.snapshot(isClient).classify(stack);
+            if (classification != null) {
+                output.set(ModDataComponents.MATERIAL, classification.getMaterial().getId().toString());
+            }
+        }
+        return output;
+    }
+
+    // === RECIPE INTERFACE ===
+
+    @Override
+    public boolean matches(SingleStackRecipeInput input, World world) {
+        ItemStack stack = input.item();
+        Integer temperature = stack.get(ModDataComponents.TEMPERATURE);
+        return stack.isOf(this.input) && matches(stack, temperature != null ? temperature : 0, world.isClient);
+    }
+
+    @Override
+    public ItemStack craft(SingleStackRecipeInput input, RegistryWrapper.WrapperLookup registries) {
+        return craft(input.item(), false);
+    }
+
+    @Override
+    public IngredientPlacement getIngredientPlacement() {
+        return IngredientPlacement.NONE;
+    }
+
+    @Override
+    public RecipeBookCategory getRecipeBookCategory() {
+        return RecipeBookCategories.FURNACE_MISC;
+    }
+
+    @Override
+    public boolean isIgnoredInRecipeBook() {
+        return true;
+    }
+
+    // === GETTERS ===
+
+    public Item getInput() {
+        return input;
+    }
+
+    public Optional<Identifier> getMaterial() {
+        return material;
+    }
+
+    public int getTemperature() {
+        return temperature;
+    }
+
+    public ItemStack getResult() {
+        return result;
+    }
+
+    // === SERIALIZER ===
+
+    /**
+     * Shared serializer: every metalworking recipe has the same JSON shape.
+     */
+    public static class Serializer<T extends MetalworkingRecipe> implements RecipeSerializer<T> {
+        private final MapCodec<T> codec;
+        private final PacketCodec<RegistryByteBuf, T> packetCodec;
+
+        public Serializer(Function4<Item, Optional<Identifier>, Integer, ItemStack, T> factory, int defaultTemperature) {
+            this.codec = RecordCodecBuilder.mapCodec(instance -> instance.group(
+                    Registries.ITEM.getCodec().fieldOf("input").forGetter(MetalworkingRecipe::getInput),
+                    Identifier.CODEC.optionalFieldOf("material").forGetter(MetalworkingRecipe::getMaterial),
+                    Codec.intRange(0, 2000).optionalFieldOf("temperature", defaultTemperature).forGetter(MetalworkingRecipe::getTemperature),
+                    ItemStack.VALIDATED_CODEC.fieldOf("result").forGetter(MetalworkingRecipe::getResult)
+            ).apply(instance, factory));
+
+            this.packetCodec = PacketCodec.tuple(
+                    PacketCodecs.registryValue(RegistryKeys.ITEM), MetalworkingRecipe::getInput,
+                    Identifier.PACKET_CODEC.collect(PacketCodecs::optional), MetalworkingRecipe::getMaterial,
+                    PacketCodecs.VAR_INT, MetalworkingRecipe::getTemperature,
+                    ItemStack.PACKET_CODEC, MetalworkingRecipe::getResult,
+                    factory
+            );
+        }
+
+        @Override
+        public MapCodec<T> codec() {
+            return codec;
+        }
+
+        @Override
+        public PacketCodec<RegistryByteBuf, T> packetCodec() {
+            return packetCodec;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.bloodforged.recipe;
+
+import com.bloodforged.BloodForged;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.Recipe;
+import net.minecraft.recipe.RecipeEntry;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.server.MinecraftServer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Metalworking recipes of one type, keyed by input Item.
+ *
+ * WHY:
+ * Forge insertion, forge ticks and anvil completion all ask "what does this
+ * stack turn into?". Scanning every recipe in the RecipeManager for that is
+ * linear in the number of recipes (and allocates). Here it is one identity map
+ * hit on the item, then a walk over the handful of recipes for that item:
+ *   material-specific recipes first, then generic ones, lowest temperature first.
+ *
+ * LIFECYCLE:
+ * Rebuilt from the server's RecipeManager on server start and after every
+ * datapack reload. The map is replaced as a whole, never modified in place.
+ * Server thread only.
+ *
+ * Lookups allocate nothing.
+ */
+public class MetalworkingRecipeIndex<T extends MetalworkingRecipe> {
+
+    private static final Comparator<MetalworkingRecipe> ORDER =
+            Comparator.comparing((MetalworkingRecipe recipe) -> !recipe.isMaterialSpecific())
+                    .thenComparingInt(MetalworkingRecipe::getTemperature);
+
+    private final RecipeType<T> type;
+    private final IntFunction<T[]> arrayFactory;
+
+    private Reference2ObjectOpenHashMap<Item, T[]> byInput = new Reference2ObjectOpenHashMap<>();
+
+    public MetalworkingRecipeIndex(RecipeType<T> type, IntFunction<T[]> arrayFactory) {
+        this.type = type;
+        this.arrayFactory = arrayFactory;
+    }
+
+    // === BUILDING ===
+
+    /**
+     * Rebuild from the server's loaded recipes.
+     */
+    @SuppressWarnings("unchecked")
+    public void rebuild(MinecraftServer server) {
+        Reference2ObjectOpenHashMap<Item, List<T>> grouped = new Reference2ObjectOpenHashMap<>();
+        for (RecipeEntry<?> entry : server.getRecipeManager().values()) {
+            Recipe<?> recipe = entry.value();
+            if (recipe.getType() == type) {
+                T typed = (T) recipe;
+                grouped.computeIfAbsent(typed.getInput(), item -> new ArrayList<>()).add(typed);
+            }
+        }
+
+        Reference2ObjectOpenHashMap<Item, T[]> index = new Reference2ObjectOpenHashMap<>(grouped.size());
+        int total = 0;
+        for (var group : grouped.reference2ObjectEntrySet()) {
+            List<T> recipes = group.getValue();
+            recipes.sort(ORDER);
+            index.put(group.getKey(), recipes.toArray(arrayFactory.apply(recipes.size())));
+            total += recipes.size();
+        }
+        index.trim();
+
+        this.byInput = index;
+        BloodForged.LOGGER.info("Indexed {} {} recipes for {} inputs", total, type, index.size());
+    }
+
+    // === LOOKUPS ===
+
+    /**
+     * Find the recipe for a stack at a temperature.
+     *
+     * @param temperature Current temperature of the metal
+     * @return The first matching recipe, or null
+     */
+    public T find(ItemStack stack, int temperature, boolean isClient) {
+        T[] candidates = byInput.get(stack.getItem());
+        if (candidates == null) {
+            return null;
+        }
+        for (T recipe : candidates) {
+            if (recipe.matches(stack, temperature, isClient)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether any recipe accepts this stack, at any temperature.
+     */
+    public boolean hasRecipe(ItemStack stack, boolean isClient) {
+        return find(stack, Integer.MAX_VALUE, isClient) != null;
+    }
+}
@@ -0,0 +1,123 @@
+package com.bloodforged.recipe;
+
+import com.bloodforged.BloodForged;
+import net.minecraft.recipe.Recipe;
+import net.minecraft.recipe.RecipeSerializer;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.recipe.SpecialCraftingRecipe;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.Registry;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.Identifier;
+
+/**
+ * Registry for recipe types and serializers.
+ *
+ * The serializer tells Minecraft how to read a recipe JSON
+ * (data/bloodforged/recipe/*.json) whose "type" is one of ours.
+ *
+ * Forging and smithing recipes are also indexed by input item
+ * (see MetalworkingRecipeIndex), alloys by dominant component
+ * (see AlloyRecipeIndex), rebuilt whenever recipes reload.
+ */
+public class ModRecipes {
+
+    // === RECIPE TYPES ===
+
+    /**
+     * Forging: item in the forge → result once hot enough.
+     * JSON: data/bloodforged/recipe/forging/*.json
+     */
+    public static final RecipeType<ForgingRecipe> FORGING = registerType("forging");
+
+    /**
+     * Smithing: hot metal on the anvil → result when the mini-game completes.
+     * JSON: data/bloodforged/recipe/smithing/*.json
+     */
+    public static final RecipeType<AnvilSmithingRecipe> SMITHING = registerType("smithing");
+
+    /**
+     * Alloying: a mix of metals (and additives) in the right ratios → alloy, in the open furnace.
+     * JSON: data/bloodforged/recipe/alloying/*.json
+     */
+    public static final RecipeType<AlloyRecipe> ALLOYING = registerType("alloying");
+
+    // === SERIALIZERS ===
+
+    // Forging is what heats the metal, so there is no default temperature
+    public static final RecipeSerializer<ForgingRecipe> FORGING_SERIALIZER = Registry.register(
+            Registries.RECIPE_SERIALIZER,
+            Identifier.of(BloodForged.MOD_ID, "forging"),
+            new MetalworkingRecipe.Serializer<>(ForgingRecipe::new, 0)
+    );
+
+    // Smithing defaults to the anvil's minimum working temperature
+    public static final RecipeSerializer<AnvilSmithingRecipe> SMITHING_SERIALIZER = Registry.register(
+            Registries.RECIPE_SERIALIZER,
+            Identifier.of(BloodForged.MOD_ID, "smithing"),
+            new MetalworkingRecipe.Serializer<>(AnvilSmithingRecipe::new, 800)
+    );
+
+    public static final RecipeSerializer<AlloyRecipe> ALLOYING_SERIALIZER = Registry.register(
+            Registries.RECIPE_SERIALIZER,
+            Identifier.of(BloodForged.MOD_ID, "alloying"),
+            new AlloyRecipe.Serializer()
+    );
+
+    /**
+     * Tool assembly: blade + handle + guard → modular tool.
+     * JSON: data/bloodforged/recipe/tool_assembly.json
+     */
+    public static final RecipeSerializer<ToolAssemblyRecipe> TOOL_ASSEMBLY_SERIALIZER = Registry.register(
+            Registries.RECIPE_SERIALIZER,
+            Identifier.of(BloodForged.MOD_ID, "tool_assembly"),
+            new SpecialCraftingRecipe.SpecialRecipeSerializer<>(ToolAssemblyRecipe::new)
+    );
+
+    /**
+     * Part swap: modular tool + one part → tool with that part replaced (old part returned).
+     * JSON: data/bloodforged/recipe/tool_part_swap.json
+     */
+    public static final RecipeSerializer<ToolPartSwapRecipe> TOOL_PART_SWAP_SERIALIZER = Registry.register(
+            Registries.RECIPE_SERIALIZER,
+            Identifier.of(BloodForged.MOD_ID, "tool_part_swap"),
+            new SpecialCraftingRecipe.SpecialRecipeSerializer<>(ToolPartSwapRecipe::new)
+    );
+
+    // === INDEXES ===
+
+    public static final MetalworkingRecipeIndex<ForgingRecipe> FORGING_INDEX =
+            new MetalworkingRecipeIndex<>(FORGING, ForgingRecipe[]::new);
+
+    public static final MetalworkingRecipeIndex<AnvilSmithingRecipe> SMITHING_INDEX =
+            new MetalworkingRecipeIndex<>(SMITHING, AnvilSmithingRecipe[]::new);
+
+    public static final AlloyRecipeIndex ALLOY_INDEX = new AlloyRecipeIndex();
+
+    /**
+     * Rebuild the recipe indexes from the server's RecipeManager.
+     * Called on server start and after datapack reloads.
+     */
+    public static void rebuildIndexes(MinecraftServer server) {
+        FORGING_INDEX.rebuild(server);
+        SMITHING_INDEX.rebuild(server);
+        ALLOY_INDEX.rebuild(server);
+    }
+
+    private static <T extends Recipe<?>> RecipeType<T> registerType(String name) {
+        return Registry.register(Registries.RECIPE_TYPE, Identifier.of(BloodForged.MOD_ID, name), new RecipeType<T>() {
+            @Override
+            public String toString() {
+                return name;
+            }
+        });
+    }
+
+    /**
+     * Register all recipe types and serializers.
+     * Called during mod initialization.
+     */
+    public static void registerRecipes() {
+        BloodForged.LOGGER.info("Registering recipes for " + BloodForged.MOD_ID);
+    }
+}
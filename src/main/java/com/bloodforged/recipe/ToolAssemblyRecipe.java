@@ -0,0 +1,94 @@
+package com.bloodforged.recipe;
+
+import com.bloodforged.item.ToolPartItem;
+import com.bloodforged.tool.ToolAssembly;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.RecipeSerializer;
+import net.minecraft.recipe.SpecialCraftingRecipe;
+import net.minecraft.recipe.book.CraftingRecipeCategory;
+import net.minecraft.recipe.input.CraftingRecipeInput;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.world.World;
+
+/**
+ * Crafting recipe: blade + handle + guard (any layout) → modular tool.
+ *
+ * A "special" recipe because the result depends on the parts' components
+ * (material + quality), which a normal JSON recipe can't express.
+ * The actual math lives in ToolAssembly.
+ */
+public class ToolAssemblyRecipe extends SpecialCraftingRecipe {
+
+    public ToolAssemblyRecipe(CraftingRecipeCategory category) {
+        super(category);
+    }
+
+    @Override
+    public boolean matches(CraftingRecipeInput input, World world) {
+        return findParts(input) != null;
+    }
+
+    @Override
+    public ItemStack craft(CraftingRecipeInput input, RegistryWrapper.WrapperLookup registries) {
+        ItemStack[] parts = findParts(input);
+        if (parts == null) {
+            return ItemStack.EMPTY;
+        }
+
+        // Crafting results are computed on the server
+        return ToolAssembly.assemble(parts[0], parts[1], parts[2], false);
+    }
+
+    @Override
+    public RecipeSerializer<ToolAssemblyRecipe> getSerializer() {
+        return ModRecipes.TOOL_ASSEMBLY_SERIALIZER;
+    }
+
+    /**
+     * Find exactly one blade, one handle and one guard, and nothing else.
+     *
+     * @return [blade, handle, guard], or null if the grid doesn't match
+     */
+    private static ItemStack[] findParts(CraftingRecipeInput input) {
+        if (input.getStackCount() != 3) {
+            return null;
+        }
+
+        ItemStack blade = null;
+        ItemStack handle = null;
+        ItemStack guard = null;
+
+        for (int i = 0; i < input.size(); i++) {
+            ItemStack stack = input.getStackInSlot(i);
+            if (stack.isEmpty()) {
+                continue;
+            }
+            if (!(stack.getItem() instanceof ToolPartItem part)) {
+                return null;
+            }
+
+            switch (part.getPartType()) {
+                case ToolPartItem.BLADE -> {
+                    if (blade != null) return null;
+                    blade = stack;
+                }
+                case ToolPartItem.HANDLE -> {
+                    if (handle != null) return null;
+                    handle = stack;
+                }
+                case ToolPartItem.GUARD -> {
+                    if (guard != null) return null;
+                    guard = stack;
+                }
+                default -> {
+                    return null;
+                }
+            }
+        }
+
+        if (blade == null || handle == null || guard == null) {
+            return null;
+        }
+        return new ItemStack[] { blade, handle, guard };
+    }
+}
@@ -0,0 +1,103 @@
+package com.bloodforged.recipe;
+
+import com.bloodforged.component.ModDataComponents;
+import com.bloodforged.item.ModItems;
+import com.bloodforged.item.ToolPartItem;
+import com.bloodforged.tool.AssembledToolStats;
+import com.bloodforged.tool.ToolAssembly;
+import com.bloodforged.tool.ToolWear;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.RecipeSerializer;
+import net.minecraft.recipe.SpecialCraftingRecipe;
+import net.minecraft.recipe.book.CraftingRecipeCategory;
+import net.minecraft.recipe.input.CraftingRecipeInput;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.util.collection.DefaultedList;
+import net.minecraft.world.World;
+
+/**
+ * Crafting recipe: modular tool + one part → same tool with that part replaced.
+ *
+ * The old part is handed back in the new part's slot (as a recipe remainder),
+ * so nothing is lost. Only the new part is looked up - see ToolAssembly.swapPart.
+ */
+public class ToolPartSwapRecipe extends SpecialCraftingRecipe {
+
+    public ToolPartSwapRecipe(CraftingRecipeCategory category) {
+        super(category);
+    }
+
+    @Override
+    public boolean matches(CraftingRecipeInput input, World world) {
+        return findSlots(input) != null;
+    }
+
+    @Override
+    public ItemStack craft(CraftingRecipeInput input, RegistryWrapper.WrapperLookup registries) {
+        int[] slots = findSlots(input);
+        if (slots == null) {
+            return ItemStack.EMPTY;
+        }
+
+        // Write pending wear before copying, so the copy starts from the real damage
+        ToolWear.flush(input.getStackInSlot(slots[0]));
+        ItemStack tool = input.getStackInSlot(slots[0]).copyWithCount(1);
+        ItemStack removed = ToolAssembly.swapPart(tool, input.getStackInSlot(slots[1]), false);
+        return removed.isEmpty() ? ItemStack.EMPTY : tool;
+    }
+
+    @Override
+    public DefaultedList<ItemStack> getRecipeRemainders(CraftingRecipeInput input) {
+        DefaultedList<ItemStack> remainders = super.getRecipeRemainders(input);
+        int[] slots = findSlots(input);
+        if (slots == null) {
+            return remainders;
+        }
+
+        // Give the old part back where the new one was, with its wear
+        ItemStack tool = input.getStackInSlot(slots[0]);
+        ToolWear.flush(tool);
+        AssembledToolStats stats = tool.get(ModDataComponents.TOOL_STATS);
+        String partType = ((ToolPartItem) input.getStackInSlot(slots[1]).getItem()).getPartType();
+        remainders.set(slots[1], ToolAssembly.createPart(partType, stats.part(partType), ToolAssembly.partWear(tool, partType)));
+        return remainders;
+    }
+
+    @Override
+    public RecipeSerializer<ToolPartSwapRecipe> getSerializer() {
+        return ModRecipes.TOOL_PART_SWAP_SERIALIZER;
+    }
+
+    /**
+     * Find exactly one assembled tool and one tool part, and nothing else.
+     *
+     * @return [tool slot, part slot], or null if the grid doesn't match
+     */
+    private static int[] findSlots(CraftingRecipeInput input) {
+        if (input.getStackCount() != 2) {
+            return null;
+        }
+
+        int toolSlot = -1;
+        int partSlot = -1;
+        for (int i = 0; i < input.size(); i++) {
+            ItemStack stack = input.getStackInSlot(i);
+            if (stack.isEmpty()) {
+                continue;
+            }
+
+            if (stack.isOf(ModItems.MODULAR_TOOL) && stack.contains(ModDataComponents.TOOL_STATS)) {
+                toolSlot = i;
+            } else if (stack.getItem() instanceof ToolPartItem && stack.contains(ModDataComponents.MATERIAL)) {
+                partSlot = i;
+            } else {
+                return null;
+            }
+        }
+
+        if (toolSlot < 0 || partSlot < 0) {
+            return null;
+        }
+        return new int[] { toolSlot, partSlot };
+    }
+}
@@ -1,6 +1,6 @@
 package com.bloodforged.screen;
 
-import com.bloodforged.component.ModDataComponents;
+import com.bloodforged.block.entity.AnvilBlockEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.Inventory;
@@ -98,15 +98,17 @@ public class AnvilScreenHandler extends ScreenHandler {
         // Add property delegate for data sync
         this.addProperties(propertyDelegate);
 
+        // Which side's material snapshot the slot checks should use
+        boolean isClient = playerInventory.player.getWorld().isClient;
+
         // === ADD SLOTS ===
 
         // INPUT SLOT (top left) - only accepts hot metal
         this.addSlot(new Slot(inventory, INPUT_SLOT, 56, 17) {
             @Override
             public boolean canInsert(ItemStack stack) {
-                // Must have temperature component (from forge)
-                Integer temp = stack.get(ModDataComponents.TEMPERATURE);
-                return temp != null && temp >= 800;
+                // Must be metal with a temperature component (from forge)
+                return AnvilBlockEntity.isHotMetal(stack, isClient);
             }
         });
 
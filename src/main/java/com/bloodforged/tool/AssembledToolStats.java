@@ -0,0 +1,93 @@
+package com.bloodforged.tool;
+
+import com.bloodforged.item.ToolPartItem;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+/**
+ * Final stats of an assembled tool, computed once by ToolAssembly.
+ *
+ * CONCEPT:
+ * Combining parts needs registry lookups and quality math. Doing that on every
+ * attack, block break or tooltip would be wasteful, so the result is stored on the
+ * stack (ModDataComponents.TOOL_STATS) and everything else just reads it.
+ *
+ * The parts are kept as well, so the tool knows what it is made of, together with
+ * each part's contribution. Swapping one part only looks up the new part; the
+ * totals are recombined from the stored contributions (see withPart).
+ *
+ * COMBINATION:
+ *   durability   = blade.durability + guard.durability
+ *   attackDamage = blade.attackDamage + guard.attackDamage
+ *   attackSpeed  = handle.attackSpeed
+ *   miningSpeed  = blade.miningSpeed
+ *   miningLevel  = blade.miningLevel
+ */
+public record AssembledToolStats(
+        ToolPart blade,
+        ToolPart handle,
+        ToolPart guard,
+        PartContribution bladeStats,
+        PartContribution handleStats,
+        PartContribution guardStats,
+        int durability,
+        float attackDamage,
+        float attackSpeed,
+        float miningSpeed,
+        int miningLevel
+) {
+
+    // Only parts + contributions are saved; totals are recombined on load
+    public static final Codec<AssembledToolStats> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            ToolPart.CODEC.fieldOf("blade").forGetter(AssembledToolStats::blade),
+            ToolPart.CODEC.fieldOf("handle").forGetter(AssembledToolStats::handle),
+            ToolPart.CODEC.fieldOf("guard").forGetter(AssembledToolStats::guard),
+            PartContribution.CODEC.fieldOf("blade_stats").forGetter(AssembledToolStats::bladeStats),
+            PartContribution.CODEC.fieldOf("handle_stats").forGetter(AssembledToolStats::handleStats),
+            PartContribution.CODEC.fieldOf("guard_stats").forGetter(AssembledToolStats::guardStats)
+    ).apply(instance, AssembledToolStats::of));
+
+    /**
+     * Combine three part contributions into tool stats.
+     */
+    public static AssembledToolStats of(ToolPart blade, ToolPart handle, ToolPart guard,
+                                        PartContribution bladeStats, PartContribution handleStats,
+                                        PartContribution guardStats) {
+        return new AssembledToolStats(blade, handle, guard, bladeStats, handleStats, guardStats,
+                bladeStats.durability() + guardStats.durability(),
+                bladeStats.attackDamage() + guardStats.attackDamage(),
+                handleStats.attackSpeed(),
+                bladeStats.miningSpeed(),
+                bladeStats.miningLevel());
+    }
+
+    /**
+     * Replace one part, keeping the other two contributions as they are.
+     *
+     * Totals are recombined from the stored contributions rather than
+     * "total - old + new": it's the same handful of adds, and float totals
+     * can't drift away from what a fresh assembly would produce.
+     *
+     * @param partType ToolPartItem.BLADE, HANDLE or GUARD
+     */
+    public AssembledToolStats withPart(String partType, ToolPart part, PartContribution stats) {
+        return switch (partType) {
+            case ToolPartItem.BLADE -> of(part, handle, guard, stats, handleStats, guardStats);
+            case ToolPartItem.HANDLE -> of(blade, part, guard, bladeStats, stats, guardStats);
+            case ToolPartItem.GUARD -> of(blade, handle, part, bladeStats, handleStats, stats);
+            default -> throw new IllegalArgumentException("Unknown part type: " + partType);
+        };
+    }
+
+    /**
+     * Get one part by type, or null for an unknown type.
+     */
+    public ToolPart part(String partType) {
+        return switch (partType) {
+            case ToolPartItem.BLADE -> blade;
+            case ToolPartItem.HANDLE -> handle;
+            case ToolPartItem.GUARD -> guard;
+            default -> null;
+        };
+    }
+}
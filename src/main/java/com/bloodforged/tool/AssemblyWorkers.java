@@ -0,0 +1,77 @@
+package com.bloodforged.tool;
+
+import com.bloodforged.material.MaterialSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded worker pool for tool stat computation.
+ *
+ * CONCEPT:
+ * Assembling a tool is cheap today, but trait interactions and material
+ * formulas will make it heavier. Machines that assemble tools (the Assembly
+ * Table) hand the work to this pool instead of doing it on the server thread:
+ *
+ *   server thread                 worker thread
+ *   -------------                 -------------
+ *   read parts + snapshot  --->   ToolAssembly.compute(snapshot, parts)
+ *   (keeps ticking)
+ *   apply result           <---   server.execute(...)
+ *
+ * Workers only ever see immutable inputs: a MaterialSnapshot and ToolPart records.
+ * They never touch worlds, block entities or stacks.
+ *
+ * BOUNDS:
+ * A few threads and a fixed-size queue. When the queue is full, submit() returns
+ * null and the caller simply tries again on a later tick - a flood of requests
+ * can't pile up unbounded work or memory.
+ */
+public class AssemblyWorkers {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("BloodForged/Tools");
+
+    private static final int THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    private static final int QUEUE_SIZE = 256;
+
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            THREADS, THREADS,
+            30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_SIZE),
+            runnable -> {
+                Thread thread = new Thread(runnable, "BloodForged Assembly #" + THREAD_IDS.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+    );
+
+    static {
+        // Idle pool costs no threads
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Compute tool stats off-thread.
+     *
+     * @return A future with the stats (null stats = invalid parts),
+     *         or null if the pool is saturated - try again later
+     */
+    public static CompletableFuture<AssembledToolStats> submit(MaterialSnapshot snapshot,
+                                                               ToolPart blade, ToolPart handle, ToolPart guard) {
+        try {
+            return CompletableFuture.supplyAsync(() -> ToolAssembly.compute(snapshot, blade, handle, guard), EXECUTOR);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Assembly queue full ({} pending), deferring", EXECUTOR.getQueue().size());
+            return null;
+        }
+    }
+}
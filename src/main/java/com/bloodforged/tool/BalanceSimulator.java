@@ -0,0 +1,309 @@
+package com.bloodforged.tool;
+
+import com.bloodforged.material.ExampleMaterials;
+import com.bloodforged.material.MaterialSnapshot;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Offline balance simulator - enumerates every possible tool and writes a report.
+ *
+ * CONCEPT:
+ * Balancing materials by hand is guesswork. This walks every
+ * blade x handle x guard material combination, at every blade quality and
+ * guard quality (in steps of qualityStep), and computes:
+ * - The assembled stats (same math as ToolAssembly)
+ * - DPS:              (1 + attackDamage) * 1.6 * attackSpeed
+ * - Durability/tier:  durability / max(1, blade tier)
+ * - Pareto front:     tools no other tool beats on DPS, durability AND mining speed
+ *
+ * Handle quality is not enumerated: it does not affect any stat yet.
+ *
+ * SCALE:
+ * 50 materials at step 10 = 125,000 triples x 169 quality pairs = ~21 million rows.
+ * Rows are never held in memory: each worker formats rows into a small buffer and
+ * flushes it to the CSV as it goes. Only the (small) Pareto front is kept.
+ *
+ * PARALLELISM:
+ * Fork-join over blade materials, one worker per core. Row order in the CSV is
+ * therefore not deterministic - sort the file if you need a stable diff.
+ *
+ * OUTPUT:
+ * <dir>/balance.csv  - one row per combination
+ * <dir>/balance.json - counts, timing and the Pareto front
+ */
+public class BalanceSimulator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("BloodForged/Balance");
+
+    // Flush a worker's buffer to the shared CSV once it grows past this
+    private static final int FLUSH_CHARS = 64 * 1024;
+
+    // Blade materials per fork-join leaf task
+    private static final int LEAF_BLADES = 1;
+
+    private static final String CSV_HEADER =
+            "blade,blade_quality,handle,guard,guard_quality,durability,attack_damage,attack_speed,"
+            + "mining_speed,mining_level,dps,durability_per_tier\n";
+
+    private final MaterialSnapshot snapshot;
+    private final int qualityStep;
+
+    // Resolved once
+    private final int bladePart;
+    private final int handlePart;
+    private final int guardPart;
+    private final String[] names;
+
+    public BalanceSimulator(MaterialSnapshot snapshot, int qualityStep) {
+        this.snapshot = snapshot;
+        this.qualityStep = Math.max(1, qualityStep);
+        this.bladePart = snapshot.partHandle(ExampleMaterials.PART_BLADE);
+        this.handlePart = snapshot.partHandle(ExampleMaterials.PART_HANDLE);
+        this.guardPart = snapshot.partHandle(ExampleMaterials.PART_GUARD);
+
+        this.names = new String[snapshot.materialCount()];
+        for (int mat = 0; mat < names.length; mat++) {
+            names[mat] = snapshot.material(mat).getId().toString();
+        }
+    }
+
+    /**
+     * Run the simulation and write the report. Blocks until done - call off-thread.
+     *
+     * @param outputDir Directory for balance.csv and balance.json (created if missing)
+     * @return Summary of the run
+     */
+    public Result run(Path outputDir) throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(outputDir);
+        Path csv = outputDir.resolve("balance.csv");
+        Path json = outputDir.resolve("balance.json");
+
+        Chunk total;
+        try (Writer writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+
+            if (bladePart == MaterialSnapshot.NO_HANDLE || handlePart == MaterialSnapshot.NO_HANDLE
+                    || guardPart == MaterialSnapshot.NO_HANDLE) {
+                total = new Chunk();
+            } else {
+                ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+                try {
+                    total = pool.invoke(new BladeRangeTask(writer, 0, names.length));
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        writeSummary(json, total, elapsedMs);
+
+        LOGGER.info("Balance simulation: {} combinations, Pareto front {} in {} ms -> {}",
+                total.rows, total.front.size(), elapsedMs, outputDir);
+        return new Result(total.rows, total.front.size(), elapsedMs, csv, json);
+    }
+
+    // === SIMULATION ===
+
+    /**
+     * Simulates every combination for a range of blade materials.
+     * Splits until one blade per task, so the pool balances uneven work.
+     */
+    private class BladeRangeTask extends RecursiveTask<Chunk> {
+        private final Writer writer;
+        private final int from;
+        private final int to;
+
+        BladeRangeTask(Writer writer, int from, int to) {
+            this.writer = writer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Chunk compute() {
+            if (to - from <= LEAF_BLADES) {
+                Chunk chunk = new Chunk();
+                for (int blade = from; blade < to; blade++) {
+                    simulateBlade(blade, chunk, writer);
+                }
+                return chunk;
+            }
+
+            int mid = (from + to) >>> 1;
+            BladeRangeTask left = new BladeRangeTask(writer, from, mid);
+            left.fork();
+            Chunk right = new BladeRangeTask(writer, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    private void simulateBlade(int blade, Chunk chunk, Writer writer) {
+        if (!snapshot.hasStats(blade, bladePart)) {
+            return;
+        }
+
+        StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 512);
+        int m = names.length;
+        int bladeTier = Math.max(1, snapshot.tier(blade));
+        int miningLevel = snapshot.miningLevel(blade, bladePart);
+
+        for (int bladeQuality = 0; bladeQuality <= 120; bladeQuality += qualityStep) {
+            int bladeDurability = snapshot.durability(blade, bladePart, bladeQuality);
+            float bladeDamage = snapshot.attackDamage(blade, bladePart, bladeQuality);
+            float miningSpeed = snapshot.miningSpeed(blade, bladePart, bladeQuality);
+
+            for (int handle = 0; handle < m; handle++) {
+                if (!snapshot.hasStats(handle, handlePart)) {
+                    continue;
+                }
+                float attackSpeed = snapshot.attackSpeed(handle, handlePart);
+
+                for (int guard = 0; guard < m; guard++) {
+                    if (!snapshot.hasStats(guard, guardPart)) {
+                        continue;
+                    }
+
+                    for (int guardQuality = 0; guardQuality <= 120; guardQuality += qualityStep) {
+                        // Same math as AssembledToolStats.of()
+                        int durability = bladeDurability + snapshot.durability(guard, guardPart, guardQuality);
+                        float attackDamage = bladeDamage + snapshot.attackDamage(guard, guardPart, guardQuality);
+                        float dps = dps(attackDamage, attackSpeed);
+                        float durabilityPerTier = (float) durability / bladeTier;
+
+                        buffer.append(names[blade]).append(',').append(bladeQuality).append(',')
+                                .append(names[handle]).append(',')
+                                .append(names[guard]).append(',').append(guardQuality).append(',')
+                                .append(durability).append(',')
+                                .append(attackDamage).append(',')
+                                .append(attackSpeed).append(',')
+                                .append(miningSpeed).append(',')
+                                .append(miningLevel).append(',')
+                                .append(dps).append(',')
+                                .append(durabilityPerTier).append('\n');
+                        chunk.rows++;
+
+                        chunk.offerPareto(dps, durability, miningSpeed,
+                                blade, bladeQuality, handle, guard, guardQuality);
+
+                        if (buffer.length() >= FLUSH_CHARS) {
+                            flush(writer, buffer);
+                        }
+                    }
+                }
+            }
+        }
+        flush(writer, buffer);
+    }
+
+    /**
+     * Damage per second for a tool. Matches the attribute math used for
+     * modular tools: the player's 1 base damage + tool damage, 1.6 base
+     * attacks per second scaled by the handle.
+     */
+    public static float dps(float attackDamage, float attackSpeed) {
+        return (1.0f + attackDamage) * 1.6f * attackSpeed;
+    }
+
+    private static void flush(Writer writer, StringBuilder buffer) {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        synchronized (writer) {
+            try {
+                writer.append(buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        buffer.setLength(0);
+    }
+
+    // === RESULTS ===
+
+    /**
+     * Per-task accumulator: row count plus the local Pareto front.
+     */
+    private static class Chunk {
+        long rows;
+        final List<ParetoPoint> front = new ArrayList<>();
+
+        void offerPareto(float dps, int durability, float miningSpeed,
+                         int blade, int bladeQuality, int handle, int guard, int guardQuality) {
+            for (ParetoPoint point : front) {
+                if (point.dps >= dps && point.durability >= durability && point.miningSpeed >= miningSpeed) {
+                    return; // dominated (or equal) - not interesting
+                }
+            }
+            front.removeIf(point -> dps >= point.dps && durability >= point.durability && miningSpeed >= point.miningSpeed);
+            front.add(new ParetoPoint(dps, durability, miningSpeed, blade, bladeQuality, handle, guard, guardQuality));
+        }
+
+        Chunk merge(Chunk other) {
+            rows += other.rows;
+            for (ParetoPoint point : other.front) {
+                offerPareto(point.dps, point.durability, point.miningSpeed,
+                        point.blade, point.bladeQuality, point.handle, point.guard, point.guardQuality);
+            }
+            return this;
+        }
+    }
+
+    private record ParetoPoint(float dps, int durability, float miningSpeed,
+                               int blade, int bladeQuality, int handle, int guard, int guardQuality) {
+    }
+
+    private void writeSummary(Path json, Chunk total, long elapsedMs) throws IOException {
+        JsonObject root = new JsonObject();
+        root.addProperty("snapshotVersion", snapshot.getVersion());
+        root.addProperty("materials", names.length);
+        root.addProperty("qualityStep", qualityStep);
+        root.addProperty("combinations", total.rows);
+        root.addProperty("elapsedMs", elapsedMs);
+
+        JsonArray front = new JsonArray();
+        for (ParetoPoint point : total.front) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("blade", names[point.blade]);
+            entry.addProperty("bladeQuality", point.bladeQuality);
+            entry.addProperty("handle", names[point.handle]);
+            entry.addProperty("guard", names[point.guard]);
+            entry.addProperty("guardQuality", point.guardQuality);
+            entry.addProperty("dps", point.dps);
+            entry.addProperty("durability", point.durability);
+            entry.addProperty("miningSpeed", point.miningSpeed);
+            front.add(entry);
+        }
+        root.add("paretoFront", front);
+
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try (Writer writer = Files.newBufferedWriter(json, StandardCharsets.UTF_8)) {
+            gson.toJson(root, writer);
+        }
+    }
+
+    /**
+     * Summary returned to the caller (the command prints it).
+     */
+    public record Result(long combinations, int paretoSize, long elapsedMs, Path csv, Path json) {
+    }
+}
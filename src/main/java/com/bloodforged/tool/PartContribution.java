@@ -0,0 +1,29 @@
+package com.bloodforged.tool;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+/**
+ * What a single part brings to an assembled tool, quality already applied.
+ *
+ * Looked up once per part (registry + quality math) and kept inside
+ * AssembledToolStats, so swapping one part never has to look up the others again.
+ * Which of these values a part actually contributes is decided by
+ * AssembledToolStats.of (e.g. a handle only contributes attack speed).
+ */
+public record PartContribution(
+        int durability,
+        float attackDamage,
+        float attackSpeed,
+        float miningSpeed,
+        int miningLevel
+) {
+
+    public static final Codec<PartContribution> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.INT.fieldOf("durability").forGetter(PartContribution::durability),
+            Codec.FLOAT.fieldOf("attack_damage").forGetter(PartContribution::attackDamage),
+            Codec.FLOAT.fieldOf("attack_speed").forGetter(PartContribution::attackSpeed),
+            Codec.FLOAT.fieldOf("mining_speed").forGetter(PartContribution::miningSpeed),
+            Codec.INT.fieldOf("mining_level").forGetter(PartContribution::miningLevel)
+    ).apply(instance, PartContribution::new));
+}
@@ -0,0 +1,32 @@
+package com.bloodforged.tool;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+/**
+ * How much wear each load-bearing part of a tool has taken.
+ *
+ * Mining wears the blade, hitting wears the guard. The vanilla durability bar
+ * (DAMAGE component) still shows the total, so the tool breaks when
+ * blade + guard wear reaches its max durability.
+ *
+ * Stored as ModDataComponents.PART_WEAR. Written in batches by ToolWear,
+ * not on every use.
+ */
+public record PartWear(int blade, int guard) {
+
+    public static final PartWear NONE = new PartWear(0, 0);
+
+    public static final Codec<PartWear> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.INT.optionalFieldOf("blade", 0).forGetter(PartWear::blade),
+            Codec.INT.optionalFieldOf("guard", 0).forGetter(PartWear::guard)
+    ).apply(instance, PartWear::new));
+
+    public PartWear add(int bladeWear, int guardWear) {
+        return new PartWear(blade + bladeWear, guard + guardWear);
+    }
+
+    public int total() {
+        return blade + guard;
+    }
+}
@@ -0,0 +1,349 @@
+package com.bloodforged.tool;
+
+import com.bloodforged.component.ModDataComponents;
+import com.bloodforged.item.ModItems;
+import com.bloodforged.item.ToolPartItem;
+import com.bloodforged.material.ExampleMaterials;
+import com.bloodforged.material.MaterialRegistry;
+import com.bloodforged.material.MaterialSnapshot;
+import net.minecraft.component.DataComponentTypes;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.Identifier;
+
+/**
+ * Tool assembly engine - turns three tool parts into one finished tool.
+ *
+ * CONCEPT:
+ * A tool is a blade + handle + guard. Each part contributes differently:
+ * - Blade:  durability, attack damage, mining speed, mining level
+ * - Handle: attack speed
+ * - Guard:  extra durability and a small attack bonus
+ *
+ * COMBINATION (quality applied per part):
+ *   durability   = blade.durability + guard.durability
+ *   attackDamage = blade.attackDamage + guard.attackDamage
+ *   attackSpeed  = handle.attackSpeed
+ *   miningSpeed  = blade.miningSpeed
+ *   miningLevel  = blade.miningLevel
+ *
+ * The math runs ONCE, here. The result is stored on the tool as
+ * ModDataComponents.TOOL_STATS, so attacks, block breaks and tooltips never
+ * touch the registry again.
+ *
+ * Swapping a single part (swapPart) only looks up the new part and only
+ * rewrites the derived components whose values changed.
+ *
+ * WEAR:
+ * Blades and guards keep their wear (PART_WEAR) when they leave a tool, as loose
+ * parts, and bring it along when they go back into one. Taking a part off never
+ * repairs anything.
+ */
+public class ToolAssembly {
+
+    /**
+     * Quality assumed for parts that were never smithed.
+     * Matches the anvil's starting quality.
+     */
+    public static final int DEFAULT_QUALITY = 50;
+
+    /**
+     * Read a tool part stack.
+     *
+     * @param stack The stack to read
+     * @param partType Expected part type ("blade", "handle", "guard")
+     * @return The part, or null if the stack is not a part of that type with a material
+     */
+    public static ToolPart readPart(ItemStack stack, String partType) {
+        if (!(stack.getItem() instanceof ToolPartItem partItem) || !partItem.getPartType().equals(partType)) {
+            return null;
+        }
+
+        String material = stack.get(ModDataComponents.MATERIAL);
+        if (material == null) {
+            return null;
+        }
+
+        return new ToolPart(material, stack.getOrDefault(ModDataComponents.QUALITY, DEFAULT_QUALITY));
+    }
+
+    /**
+     * Run the combination math.
+     *
+     * @return The combined stats, or null if a material is unknown or has no stats for its part
+     */
+    public static AssembledToolStats compute(MaterialSnapshot snapshot, ToolPart blade, ToolPart handle, ToolPart guard) {
+        PartContribution bladeStats = contribution(snapshot, ToolPartItem.BLADE, blade);
+        PartContribution handleStats = contribution(snapshot, ToolPartItem.HANDLE, handle);
+        PartContribution guardStats = contribution(snapshot, ToolPartItem.GUARD, guard);
+        if (bladeStats == null || handleStats == null || guardStats == null) {
+            return null;
+        }
+
+        return AssembledToolStats.of(blade, handle, guard, bladeStats, handleStats, guardStats);
+    }
+
+    /**
+     * Look up what a single part contributes, quality applied.
+     *
+     * Parts whose quality sits exactly on a bucket are read from the
+     * ToolCombinationTable when it is built for this snapshot; any other
+     * quality (or no table yet) is computed directly. Both give the same values.
+     *
+     * @param partType ToolPartItem.BLADE, HANDLE or GUARD
+     * @return The contribution, or null if the material is unknown or has no stats for that part
+     */
+    public static PartContribution contribution(MaterialSnapshot snapshot, String partType, ToolPart part) {
+        Identifier partId = partTypeId(partType);
+        int partHandle = partId != null ? snapshot.partHandle(partId) : MaterialSnapshot.NO_HANDLE;
+        int mat = materialHandle(snapshot, part);
+        if (!hasStats(snapshot, mat, partHandle)) {
+            return null;
+        }
+
+        int quality = part.quality();
+        ToolCombinationTable table = ToolCombinationTable.forSnapshot(snapshot);
+        int bucket = ToolCombinationTable.bucket(quality);
+        if (table != null && bucket >= 0) {
+            return table.contribution(mat, ToolCombinationTable.partIndex(partType), bucket);
+        }
+
+        return new PartContribution(
+                snapshot.durability(mat, partHandle, quality),
+                snapshot.attackDamage(mat, partHandle, quality),
+                snapshot.attackSpeed(mat, partHandle),
+                snapshot.miningSpeed(mat, partHandle, quality),
+                snapshot.miningLevel(mat, partHandle));
+    }
+
+    /**
+     * Assemble three part stacks into a modular tool.
+     *
+     * The part stacks are not modified - the caller decides whether to consume them.
+     * Wear on the blade and guard carries over onto the tool (see carryWear).
+     *
+     * @param isClient Which side's material snapshot to use
+     * @return The finished tool, or ItemStack.EMPTY if the parts don't form a valid tool
+     */
+    public static ItemStack assemble(ItemStack bladeStack, ItemStack handleStack, ItemStack guardStack, boolean isClient) {
+        ToolPart blade = readPart(bladeStack, ToolPartItem.BLADE);
+        ToolPart handle = readPart(handleStack, ToolPartItem.HANDLE);
+        ToolPart guard = readPart(guardStack, ToolPartItem.GUARD);
+        if (blade == null || handle == null || guard == null) {
+            return ItemStack.EMPTY;
+        }
+
+        AssembledToolStats stats = compute(MaterialRegistry.INSTANCE.snapshot(isClient), blade, handle, guard);
+        if (stats == null) {
+            return ItemStack.EMPTY;
+        }
+
+        ItemStack tool = createTool(stats);
+        carryWear(tool, bladeStack, guardStack);
+        return tool;
+    }
+
+    /**
+     * Create a modular tool from already computed stats.
+     */
+    public static ItemStack createTool(AssembledToolStats stats) {
+        ItemStack tool = new ItemStack(ModItems.MODULAR_TOOL);
+        applyStats(tool, stats);
+        return tool;
+    }
+
+    /**
+     * Store computed stats on a tool stack.
+     * Durability goes into the vanilla MAX_DAMAGE component so the durability bar works,
+     * damage and speed into a shared ATTRIBUTE_MODIFIERS component (see ToolAttributes).
+     * The stack is only damageable with a DAMAGE component too, so a fresh tool gets 0;
+     * damage already on the stack is kept.
+     */
+    public static void applyStats(ItemStack tool, AssembledToolStats stats) {
+        tool.set(ModDataComponents.TOOL_STATS, stats);
+        tool.set(DataComponentTypes.MAX_DAMAGE, Math.max(1, stats.durability()));
+        if (!tool.contains(DataComponentTypes.DAMAGE)) {
+            tool.set(DataComponentTypes.DAMAGE, 0);
+        }
+        tool.set(DataComponentTypes.ATTRIBUTE_MODIFIERS, ToolAttributes.forStats(stats));
+    }
+
+    /**
+     * Put the wear of loose blade and guard parts onto a freshly assembled tool.
+     */
+    public static void carryWear(ItemStack tool, ItemStack bladeStack, ItemStack guardStack) {
+        int blade = partWear(bladeStack, ToolPartItem.BLADE);
+        int guard = partWear(guardStack, ToolPartItem.GUARD);
+        if (blade == 0 && guard == 0) {
+            return;
+        }
+
+        tool.set(ModDataComponents.PART_WEAR, new PartWear(blade, guard));
+        tool.setDamage(blade + guard);
+    }
+
+    // === PART SWAPPING ===
+
+    // Derived data on the tool stack that a swap may invalidate
+    public static final int DIRTY_DURABILITY = 1;   // MAX_DAMAGE
+    public static final int DIRTY_ATTRIBUTES = 1 << 1; // ATTRIBUTE_MODIFIERS
+
+    /**
+     * Replace one part of an assembled tool, in place.
+     *
+     * Only the new part is looked up; the other two contributions are reused
+     * from TOOL_STATS. Derived components are only rewritten when the values
+     * they depend on actually changed (see dirtyMask).
+     *
+     * Wear moves with the parts: the old part's wear leaves the tool's damage and
+     * goes onto the returned part, the new part's wear joins the tool's damage.
+     * Pending ToolWear counts are flushed first, so they land on the old part.
+     *
+     * @param tool The modular tool (modified)
+     * @param partStack The new part (not modified)
+     * @param isClient Which side's material snapshot to use
+     * @return The removed part as an item, with its wear, or ItemStack.EMPTY if nothing was swapped
+     */
+    public static ItemStack swapPart(ItemStack tool, ItemStack partStack, boolean isClient) {
+        AssembledToolStats before = tool.get(ModDataComponents.TOOL_STATS);
+        if (before == null || !(partStack.getItem() instanceof ToolPartItem partItem)) {
+            return ItemStack.EMPTY;
+        }
+
+        String partType = partItem.getPartType();
+        ToolPart part = readPart(partStack, partType);
+        if (part == null) {
+            return ItemStack.EMPTY;
+        }
+
+        PartContribution stats = contribution(MaterialRegistry.INSTANCE.snapshot(isClient), partType, part);
+        if (stats == null) {
+            return ItemStack.EMPTY;
+        }
+
+        ToolWear.flush(tool);
+        AssembledToolStats after = before.withPart(partType, part, stats);
+        int dirty = dirtyMask(before, after);
+
+        tool.set(ModDataComponents.TOOL_STATS, after);
+        if ((dirty & DIRTY_DURABILITY) != 0) {
+            tool.set(DataComponentTypes.MAX_DAMAGE, Math.max(1, after.durability()));
+        }
+        if ((dirty & DIRTY_ATTRIBUTES) != 0) {
+            tool.set(DataComponentTypes.ATTRIBUTE_MODIFIERS, ToolAttributes.forStats(after));
+        }
+        int removedWear = replaceWear(tool, partType, partWear(partStack, partType));
+
+        return createPart(partType, before.part(partType), removedWear);
+    }
+
+    /**
+     * Which derived components differ between two stats.
+     */
+    public static int dirtyMask(AssembledToolStats before, AssembledToolStats after) {
+        int dirty = 0;
+        if (before.durability() != after.durability()) {
+            dirty |= DIRTY_DURABILITY;
+        }
+        if (before.attackDamage() != after.attackDamage() || before.attackSpeed() != after.attackSpeed()) {
+            dirty |= DIRTY_ATTRIBUTES;
+        }
+        return dirty;
+    }
+
+    /**
+     * Create a loose part item, e.g. for a part taken off a tool.
+     *
+     * @param wear Wear the part has taken, stored as its side of PART_WEAR (ignored for handles)
+     */
+    public static ItemStack createPart(String partType, ToolPart part, int wear) {
+        Item item = switch (partType) {
+            case ToolPartItem.BLADE -> ModItems.TOOL_BLADE;
+            case ToolPartItem.HANDLE -> ModItems.TOOL_HANDLE;
+            case ToolPartItem.GUARD -> ModItems.TOOL_GUARD;
+            default -> null;
+        };
+        if (item == null || part == null) {
+            return ItemStack.EMPTY;
+        }
+
+        ItemStack stack = new ItemStack(item);
+        stack.set(ModDataComponents.MATERIAL, part.material());
+        stack.set(ModDataComponents.QUALITY, part.quality());
+        if (wear > 0) {
+            switch (partType) {
+                case ToolPartItem.BLADE -> stack.set(ModDataComponents.PART_WEAR, new PartWear(wear, 0));
+                case ToolPartItem.GUARD -> stack.set(ModDataComponents.PART_WEAR, new PartWear(0, wear));
+                default -> { } // Handles don't wear
+            }
+        }
+        return stack;
+    }
+
+    /**
+     * Wear one part has taken, read from a tool or a loose part.
+     *
+     * @param partType ToolPartItem.BLADE or GUARD (handles don't wear, always 0)
+     */
+    public static int partWear(ItemStack stack, String partType) {
+        PartWear wear = stack.getOrDefault(ModDataComponents.PART_WEAR, PartWear.NONE);
+        return switch (partType) {
+            case ToolPartItem.BLADE -> wear.blade();
+            case ToolPartItem.GUARD -> wear.guard();
+            default -> 0;
+        };
+    }
+
+    /**
+     * Swap one part's wear on the tool: the outgoing part's wear leaves the
+     * tool's damage, the incoming part's wear joins it.
+     *
+     * @return The outgoing part's wear
+     */
+    private static int replaceWear(ItemStack tool, String partType, int incoming) {
+        PartWear wear = tool.getOrDefault(ModDataComponents.PART_WEAR, PartWear.NONE);
+
+        int outgoing;
+        PartWear after;
+        switch (partType) {
+            case ToolPartItem.BLADE -> {
+                outgoing = wear.blade();
+                after = new PartWear(incoming, wear.guard());
+            }
+            case ToolPartItem.GUARD -> {
+                outgoing = wear.guard();
+                after = new PartWear(wear.blade(), incoming);
+            }
+            default -> {
+                return 0; // Handles don't wear
+            }
+        }
+
+        tool.set(ModDataComponents.PART_WEAR, after);
+        tool.setDamage(Math.max(0, tool.getDamage() - outgoing + incoming));
+        return outgoing;
+    }
+
+    // === HELPERS ===
+
+    /**
+     * Map a ToolPartItem part type to its material stats part ID.
+     */
+    public static Identifier partTypeId(String partType) {
+        return switch (partType) {
+            case ToolPartItem.BLADE -> ExampleMaterials.PART_BLADE;
+            case ToolPartItem.HANDLE -> ExampleMaterials.PART_HANDLE;
+            case ToolPartItem.GUARD -> ExampleMaterials.PART_GUARD;
+            default -> null;
+        };
+    }
+
+    private static int materialHandle(MaterialSnapshot snapshot, ToolPart part) {
+        Identifier id = Identifier.tryParse(part.material());
+        return id != null ? snapshot.materialHandle(id) : MaterialSnapshot.NO_HANDLE;
+    }
+
+    private static boolean hasStats(MaterialSnapshot snapshot, int mat, int part) {
+        return mat != MaterialSnapshot.NO_HANDLE && part != MaterialSnapshot.NO_HANDLE && snapshot.hasStats(mat, part);
+    }
+}
@@ -0,0 +1,59 @@
+package com.bloodforged.tool;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import net.minecraft.component.type.AttributeModifierSlot;
+import net.minecraft.component.type.AttributeModifiersComponent;
+import net.minecraft.entity.attribute.EntityAttributeModifier;
+import net.minecraft.entity.attribute.EntityAttributes;
+import net.minecraft.util.Identifier;
+
+/**
+ * Attack damage / attack speed attribute modifiers for modular tools.
+ *
+ * CONCEPT:
+ * Vanilla applies a weapon's damage and speed through the ATTRIBUTE_MODIFIERS
+ * component, read every time the held item changes. For modular tools this
+ * component is built ONCE at assembly (from AssembledToolStats) and stored on
+ * the stack - it is never rebuilt on equip or hotbar scroll.
+ *
+ * INTERNING:
+ * Tools with identical stats share one component instance through a weak
+ * interner. Equality checks between them become identity checks, and a hotbar
+ * full of the same weapon holds one component, not nine. Entries are weak, so
+ * components no stack uses anymore are garbage collected.
+ *
+ * MATH (same as BalanceSimulator.dps):
+ * - Attack damage: +attackDamage on top of the player's base 1
+ * - Attack speed:  1.6 attacks/second scaled by the handle (player base is 4.0)
+ */
+public class ToolAttributes {
+
+    // Same IDs as Item.BASE_ATTACK_DAMAGE_MODIFIER_ID / BASE_ATTACK_SPEED_MODIFIER_ID,
+    // so the tooltip shows the values as the weapon's base stats
+    private static final Identifier BASE_ATTACK_DAMAGE_ID = Identifier.ofVanilla("base_attack_damage");
+    private static final Identifier BASE_ATTACK_SPEED_ID = Identifier.ofVanilla("base_attack_speed");
+
+    private static final float PLAYER_BASE_ATTACK_SPEED = 4.0f;
+    private static final float BASE_ATTACKS_PER_SECOND = 1.6f;
+
+    private static final Interner<AttributeModifiersComponent> INTERNER = Interners.newWeakInterner();
+
+    /**
+     * Get the (shared) attribute modifiers for an assembled tool.
+     */
+    public static AttributeModifiersComponent forStats(AssembledToolStats stats) {
+        AttributeModifiersComponent component = AttributeModifiersComponent.builder()
+                .add(EntityAttributes.ATTACK_DAMAGE,
+                        new EntityAttributeModifier(BASE_ATTACK_DAMAGE_ID, stats.attackDamage(),
+                                EntityAttributeModifier.Operation.ADD_VALUE),
+                        AttributeModifierSlot.MAINHAND)
+                .add(EntityAttributes.ATTACK_SPEED,
+                        new EntityAttributeModifier(BASE_ATTACK_SPEED_ID,
+                                BASE_ATTACKS_PER_SECOND * stats.attackSpeed() - PLAYER_BASE_ATTACK_SPEED,
+                                EntityAttributeModifier.Operation.ADD_VALUE),
+                        AttributeModifierSlot.MAINHAND)
+                .build();
+        return INTERNER.intern(component);
+    }
+}
@@ -0,0 +1,214 @@
+package com.bloodforged.tool;
+
+import com.bloodforged.item.ToolPartItem;
+import com.bloodforged.material.MaterialRegistry;
+import com.bloodforged.material.MaterialSnapshot;
+import net.minecraft.util.Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Precomputed part contributions for every material, part type and quality bucket.
+ *
+ * CONCEPT:
+ * With M materials and quality 0-120 the space of assembled tools is finite.
+ * Quality is bucketed in steps of 10 (0, 10, ..., 120 = 13 buckets). Every tool is
+ * blade + handle + guard, and each part can sit in its own bucket (a quality 120
+ * blade on a quality 50 guard is an ordinary tool).
+ *
+ * LAYOUT:
+ * A table over (blade, handle, guard, blade bucket, guard bucket) would be
+ * M^3 * 169 cells. But AssembledToolStats.of only ever adds up per-part
+ * contributions, so the table stores those instead, one cell per
+ * (material, part type, bucket):
+ *
+ *   cells[(material * PARTS + part) * BUCKETS + bucket] -> PartContribution
+ *
+ * Any triple, with any mix of part buckets, resolves in three array reads plus the
+ * usual combination. Memory is linear in M: 50 materials = 1,950 cells = ~69 KiB.
+ * Every build logs its real size and time; /bloodforged benchmark table [materials]
+ * builds one for synthetic materials (50 by default) and reports the same.
+ *
+ * BUILDING:
+ * Built off-thread (Minecraft's worker pool) whenever the server snapshot is
+ * compiled. Until the build finishes - or if it would exceed the memory cap -
+ * callers fall back to direct computation (forSnapshot returns null).
+ * Finished builds are published with a compare-and-set on the snapshot version,
+ * so a slow build for an old snapshot never replaces a newer table.
+ *
+ * USE:
+ * ToolAssembly.contribution reads it when a part's quality is exactly on a bucket,
+ * which also makes bulk queries (dashboards, comparisons, AssemblyWorkers batches)
+ * share one PartContribution per cell instead of looking up and allocating per tool.
+ *
+ * CONFIGURATION (JVM system properties):
+ * -Dbloodforged.combinationTable=false         disable the table entirely
+ * -Dbloodforged.combinationTableMaxBytes=N     memory cap (default 64 MiB)
+ */
+public final class ToolCombinationTable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("BloodForged/Tools");
+
+    // Quality buckets: 0, 10, 20, ..., 120
+    public static final int BUCKET_SIZE = 10;
+    public static final int BUCKETS = 120 / BUCKET_SIZE + 1;
+
+    // Blade, handle, guard
+    private static final String[] PART_TYPES = {ToolPartItem.BLADE, ToolPartItem.HANDLE, ToolPartItem.GUARD};
+    private static final int PARTS = PART_TYPES.length;
+
+    // Bytes per cell: compressed reference + PartContribution (header, 2 ints, 3 floats)
+    private static final int BYTES_PER_CELL = 4 + 32;
+
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("bloodforged.combinationTable", "true"));
+    private static final long MAX_BYTES =
+            Long.getLong("bloodforged.combinationTableMaxBytes", 64L * 1024 * 1024);
+
+    // Latest finished table (null until the first build completes)
+    private static final AtomicReference<ToolCombinationTable> CURRENT = new AtomicReference<>();
+
+    // Snapshot version this table was built from
+    private final int version;
+    // Null where a material has no stats for a part
+    private final PartContribution[] cells;
+
+    private ToolCombinationTable(int version, PartContribution[] cells) {
+        this.version = version;
+        this.cells = cells;
+    }
+
+    // === BUILDING ===
+
+    /**
+     * Start building a table for the current server snapshot.
+     * Returns immediately; the table becomes visible when the build finishes.
+     */
+    public static void rebuildAsync() {
+        if (!ENABLED) {
+            return;
+        }
+
+        MaterialSnapshot snapshot = MaterialRegistry.INSTANCE.snapshot(false);
+        CompletableFuture.supplyAsync(() -> build(snapshot), Util.getMainWorkerExecutor())
+                .whenComplete((table, error) -> {
+                    if (error != null) {
+                        LOGGER.error("Failed to build tool combination table", error);
+                    } else if (table != null) {
+                        // Atomic check-and-publish: an older build never replaces a newer one
+                        CURRENT.accumulateAndGet(table, (previous, next) ->
+                                previous == null || previous.version < next.version ? next : previous);
+                    }
+                });
+    }
+
+    /**
+     * Estimated size of a table for the given number of materials.
+     */
+    public static long estimateBytes(int materialCount) {
+        return (long) materialCount * PARTS * BUCKETS * BYTES_PER_CELL;
+    }
+
+    /**
+     * Build a table synchronously.
+     * Does not publish it - rebuildAsync() does that.
+     *
+     * @return The table, or null if it would exceed the memory cap
+     */
+    public static ToolCombinationTable build(MaterialSnapshot snapshot) {
+        long start = System.nanoTime();
+
+        int m = snapshot.materialCount();
+        long bytes = estimateBytes(m);
+        if (bytes > MAX_BYTES) {
+            LOGGER.warn("Tool combination table for {} materials needs {} KiB (cap {} KiB), using direct computation",
+                    m, bytes / 1024, MAX_BYTES / 1024);
+            return null;
+        }
+
+        PartContribution[] cells = new PartContribution[m * PARTS * BUCKETS];
+        int filled = 0;
+        for (int part = 0; part < PARTS; part++) {
+            int partHandle = snapshot.partHandle(ToolAssembly.partTypeId(PART_TYPES[part]));
+            if (partHandle == MaterialSnapshot.NO_HANDLE) {
+                continue;
+            }
+            for (int mat = 0; mat < m; mat++) {
+                if (!snapshot.hasStats(mat, partHandle)) {
+                    continue;
+                }
+                int row = (mat * PARTS + part) * BUCKETS;
+                for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                    // Same lookups as ToolAssembly.contribution()
+                    int quality = bucket * BUCKET_SIZE;
+                    cells[row + bucket] = new PartContribution(
+                            snapshot.durability(mat, partHandle, quality),
+                            snapshot.attackDamage(mat, partHandle, quality),
+                            snapshot.attackSpeed(mat, partHandle),
+                            snapshot.miningSpeed(mat, partHandle, quality),
+                            snapshot.miningLevel(mat, partHandle));
+                    filled++;
+                }
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        LOGGER.info("Built tool combination table: {} materials, {} cells ({} filled), {} KiB in {} us",
+                m, cells.length, filled, bytes / 1024, elapsed / 1_000);
+
+        return new ToolCombinationTable(snapshot.getVersion(), cells);
+    }
+
+    // === LOOKUPS ===
+
+    /**
+     * Get the table for a snapshot, if one is ready and up to date.
+     *
+     * @return The table, or null - callers then compute directly
+     */
+    public static ToolCombinationTable forSnapshot(MaterialSnapshot snapshot) {
+        ToolCombinationTable table = CURRENT.get();
+        return table != null && table.version == snapshot.getVersion() ? table : null;
+    }
+
+    /**
+     * Bucket index for a quality value, or -1 if it is not exactly on a bucket
+     * (those parts are computed directly, never rounded).
+     */
+    public static int bucket(int quality) {
+        if (quality < 0 || quality % BUCKET_SIZE != 0 || quality / BUCKET_SIZE >= BUCKETS) {
+            return -1;
+        }
+        return quality / BUCKET_SIZE;
+    }
+
+    /**
+     * Table index of a ToolPartItem part type, or -1 if unknown.
+     */
+    public static int partIndex(String partType) {
+        return switch (partType) {
+            case ToolPartItem.BLADE -> 0;
+            case ToolPartItem.HANDLE -> 1;
+            case ToolPartItem.GUARD -> 2;
+            default -> -1;
+        };
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * One part's contribution at a bucketed quality.
+     *
+     * @param mat Material handle in the snapshot this table was built from
+     * @param part partIndex() of the part type
+     * @return The contribution, or null if the material has no stats for that part
+     */
+    public PartContribution contribution(int mat, int part, int bucket) {
+        return cells[(mat * PARTS + part) * BUCKETS + bucket];
+    }
+}
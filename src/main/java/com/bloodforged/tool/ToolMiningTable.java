@@ -0,0 +1,118 @@
+package com.bloodforged.tool;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.BlockTags;
+import net.minecraft.registry.tag.TagKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.BitSet;
+
+/**
+ * Precomputed block lookup for modular tool mining.
+ *
+ * CONCEPT:
+ * While a player digs, the game asks the held tool every tick:
+ * - How fast does it mine this block?  (Item.getMiningSpeed)
+ * - Does the block drop anything?      (Item.isCorrectForDrops)
+ *
+ * Answering with tag checks means walking tag entries per call. Instead, when
+ * tags load, every block tag we care about is flattened into a BitSet indexed
+ * by block raw ID. A dig tick is then one int lookup plus a bit test.
+ *
+ * TABLES:
+ * - effective:     blocks the blade mines at full speed (pickaxe-mineable for now)
+ * - correct[tier]: effective blocks that drop at mining level "tier"
+ *                  (effective minus vanilla's incorrect_for_X_tool tag)
+ *
+ * Mining levels follow the vanilla tool tiers:
+ * 0 = wood, 1 = stone, 2 = iron, 3 = diamond, 4+ = netherite
+ */
+public final class ToolMiningTable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("BloodForged/Tools");
+
+    // What the blade counts as until part shapes (axe head, shovel head) exist
+    private static final TagKey<Block> EFFECTIVE = BlockTags.PICKAXE_MINEABLE;
+
+    // Indexed by mining level
+    private static final TagKey<Block>[] INCORRECT_BY_TIER = tierTags();
+
+    // Empty until tags load - nothing is effective, nothing is correct
+    private static volatile ToolMiningTable current = new ToolMiningTable(new BitSet(), new BitSet[0]);
+
+    private final BitSet effective;
+    private final BitSet[] correctByTier;
+
+    private ToolMiningTable(BitSet effective, BitSet[] correctByTier) {
+        this.effective = effective;
+        this.correctByTier = correctByTier;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TagKey<Block>[] tierTags() {
+        return new TagKey[] {
+                BlockTags.INCORRECT_FOR_WOODEN_TOOL,
+                BlockTags.INCORRECT_FOR_STONE_TOOL,
+                BlockTags.INCORRECT_FOR_IRON_TOOL,
+                BlockTags.INCORRECT_FOR_DIAMOND_TOOL,
+                BlockTags.INCORRECT_FOR_NETHERITE_TOOL
+        };
+    }
+
+    // === BUILDING ===
+
+    /**
+     * Rebuild the table from the currently bound block tags.
+     * Called when tags load (see BloodForged).
+     */
+    public static void rebuild() {
+        long start = System.nanoTime();
+
+        BitSet effective = collect(EFFECTIVE);
+        BitSet[] correctByTier = new BitSet[INCORRECT_BY_TIER.length];
+        for (int tier = 0; tier < INCORRECT_BY_TIER.length; tier++) {
+            BitSet correct = (BitSet) effective.clone();
+            correct.andNot(collect(INCORRECT_BY_TIER[tier]));
+            correctByTier[tier] = correct;
+        }
+
+        current = new ToolMiningTable(effective, correctByTier);
+        LOGGER.debug("Built tool mining table: {} effective blocks in {} us",
+                effective.cardinality(), (System.nanoTime() - start) / 1_000);
+    }
+
+    private static BitSet collect(TagKey<Block> tag) {
+        BitSet bits = new BitSet(Registries.BLOCK.size());
+        for (RegistryEntry<Block> entry : Registries.BLOCK.iterateEntries(tag)) {
+            bits.set(Registries.BLOCK.getRawId(entry.value()));
+        }
+        return bits;
+    }
+
+    // === LOOKUPS ===
+
+    /**
+     * Mining speed of a tool against a block.
+     *
+     * @param miningSpeed The tool's precomputed mining speed (AssembledToolStats)
+     */
+    public static float getMiningSpeed(float miningSpeed, BlockState state) {
+        return current.effective.get(Registries.BLOCK.getRawId(state.getBlock())) ? miningSpeed : 1.0f;
+    }
+
+    /**
+     * Whether a block drops when mined with a tool of this mining level.
+     */
+    public static boolean isCorrectForDrops(int miningLevel, BlockState state) {
+        BitSet[] correctByTier = current.correctByTier;
+        if (correctByTier.length == 0) {
+            return false;
+        }
+        int tier = Math.max(0, Math.min(miningLevel, correctByTier.length - 1));
+        return correctByTier[tier].get(Registries.BLOCK.getRawId(state.getBlock()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.bloodforged.tool;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+/**
+ * One part of an assembled tool: which material it was made from, and how well.
+ *
+ * Mirrors the MATERIAL + QUALITY components of the ToolPartItem it came from,
+ * so the part can be identified (and later swapped out) without the original stack.
+ */
+public record ToolPart(String material, int quality) {
+
+    public static final Codec<ToolPart> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.STRING.fieldOf("material").forGetter(ToolPart::material),
+            Codec.INT.fieldOf("quality").forGetter(ToolPart::quality)
+    ).apply(instance, ToolPart::new));
+}
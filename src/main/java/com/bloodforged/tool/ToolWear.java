@@ -0,0 +1,201 @@
+package com.bloodforged.tool;
+
+import com.bloodforged.component.ModDataComponents;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.EquipmentSlot;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.UUID;
+
+/**
+ * Batched per-part wear for modular tools.
+ *
+ * CONCEPT:
+ * Damaging a stack on every block break rewrites its components and sends a
+ * slot update to the client every time. Instead, wear is counted in a transient
+ * per-tool counter and only written to the stack (DAMAGE + PART_WEAR) when:
+ * - FLUSH_USES uses have piled up
+ * - The pending wear would break the tool (so it still breaks on time)
+ * - The tool leaves the main hand (inventoryTick) or is clicked in a screen
+ * - The player disconnects, or the server saves / stops
+ *
+ * KEYING:
+ * Moving a stack in a screen (click, shift-click, drag, drop) goes through
+ * ItemStack.split, which copies the stack and empties the original. A counter
+ * keyed on the stack object would stay behind on the emptied original. Counters
+ * are keyed on the tool's TOOL_ID instead (given on first use), which every copy
+ * carries, so the wear follows the tool to wherever it ends up.
+ *
+ * Only players batch - nothing would ever flush a mob's counter, so any other
+ * entity wears its tool directly. Server thread only.
+ *
+ * LIMITATION:
+ * A tool that leaves its owner's inventory without being clicked (thrown, or
+ * shift-clicked into a container) keeps its counter until it is ticked in a
+ * player inventory again. If the owner disconnects first, that counter - at most
+ * FLUSH_USES - 1 uses - is dropped. Copies of one tool (creative pick-block)
+ * share an id, and therefore a counter.
+ */
+public class ToolWear {
+
+    // Flush after this many pending uses
+    public static final int FLUSH_USES = 16;
+
+    // TOOL_ID -> pending wear
+    private static final Long2ObjectOpenHashMap<Pending> PENDING = new Long2ObjectOpenHashMap<>();
+
+    private static final int BLADE = 0;
+    private static final int GUARD = 1;
+
+    // === RECORDING ===
+
+    /**
+     * Record blade wear from breaking a block.
+     */
+    public static void onMine(ItemStack stack, LivingEntity miner) {
+        record(stack, miner, BLADE);
+    }
+
+    /**
+     * Record guard wear from hitting an entity.
+     */
+    public static void onHit(ItemStack stack, LivingEntity attacker) {
+        record(stack, attacker, GUARD);
+    }
+
+    private static void record(ItemStack stack, LivingEntity user, int part) {
+        if (user.getWorld().isClient || !stack.isDamageable()) {
+            return;
+        }
+
+        if (!(user instanceof ServerPlayerEntity player)) {
+            stack.damage(1, user, EquipmentSlot.MAINHAND);
+            addPartWear(stack, part == BLADE ? 1 : 0, part == GUARD ? 1 : 0);
+            return;
+        }
+
+        long id = toolId(stack, player);
+        Pending pending = PENDING.get(id);
+        if (pending == null) {
+            pending = new Pending(player.getUuid());
+            PENDING.put(id, pending);
+        }
+        pending.wear[part]++;
+
+        int total = pending.total();
+        boolean wouldBreak = stack.getDamage() + total >= stack.getMaxDamage();
+        if (wouldBreak || total >= FLUSH_USES) {
+            PENDING.remove(id);
+            // LivingEntity variant: plays the break animation for the hand
+            stack.damage(total, user, EquipmentSlot.MAINHAND);
+            addPartWear(stack, pending.wear[BLADE], pending.wear[GUARD]);
+        }
+    }
+
+    // === FLUSHING ===
+
+    /**
+     * Write any pending wear to the stack.
+     *
+     * @param player Owner of the stack (for unbreaking + break callback), may be null
+     */
+    public static void flush(ItemStack stack, ServerWorld world, ServerPlayerEntity player) {
+        Pending pending = take(stack);
+        if (pending == null) {
+            return;
+        }
+
+        stack.damage(pending.total(), world, player, item -> {});
+        addPartWear(stack, pending.wear[BLADE], pending.wear[GUARD]);
+    }
+
+    /**
+     * Write any pending wear to the stack where no world is at hand (part swaps
+     * in a crafting grid). Skips the unbreaking roll; pending wear never reaches
+     * the break point (record flushes first), so the stack can't break here.
+     */
+    public static void flush(ItemStack stack) {
+        Pending pending = take(stack);
+        if (pending == null) {
+            return;
+        }
+
+        stack.setDamage(stack.getDamage() + pending.total());
+        addPartWear(stack, pending.wear[BLADE], pending.wear[GUARD]);
+    }
+
+    /**
+     * Flush every modular tool in a player's inventory and on their cursor.
+     * Called on save and server stop.
+     */
+    public static void flushPlayer(ServerPlayerEntity player) {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+
+        ServerWorld world = player.getServerWorld();
+        PlayerInventory inventory = player.getInventory();
+        for (int slot = 0; slot < inventory.size(); slot++) {
+            flush(inventory.getStack(slot), world, player);
+        }
+        flush(player.currentScreenHandler.getCursorStack(), world, player);
+    }
+
+    /**
+     * Flush a leaving player's tools, then drop the counters of any of their
+     * tools that are not with them (see LIMITATION), so they can't pile up.
+     */
+    public static void onDisconnect(ServerPlayerEntity player) {
+        flushPlayer(player);
+
+        UUID owner = player.getUuid();
+        PENDING.values().removeIf(pending -> pending.owner.equals(owner));
+    }
+
+    private static Pending take(ItemStack stack) {
+        if (PENDING.isEmpty()) {
+            return null;
+        }
+        Long id = stack.get(ModDataComponents.TOOL_ID);
+        return id != null ? PENDING.remove(id.longValue()) : null;
+    }
+
+    private static long toolId(ItemStack stack, ServerPlayerEntity player) {
+        Long id = stack.get(ModDataComponents.TOOL_ID);
+        if (id == null) {
+            id = player.getRandom().nextLong();
+            stack.set(ModDataComponents.TOOL_ID, id);
+        }
+        return id;
+    }
+
+    private static void addPartWear(ItemStack stack, int blade, int guard) {
+        // Stack broke and was emptied - nothing left to record on
+        if (stack.isEmpty()) {
+            return;
+        }
+        PartWear wear = stack.getOrDefault(ModDataComponents.PART_WEAR, PartWear.NONE);
+        stack.set(ModDataComponents.PART_WEAR, wear.add(blade, guard));
+    }
+
+    /**
+     * Wear counted since the last flush, and who counted it.
+     */
+    private static final class Pending {
+        final UUID owner;
+        // {blade, guard}
+        final int[] wear = new int[2];
+
+        Pending(UUID owner) {
+            this.owner = owner;
+        }
+
+        int total() {
+            return wear[BLADE] + wear[GUARD];
+        }
+    }
+}